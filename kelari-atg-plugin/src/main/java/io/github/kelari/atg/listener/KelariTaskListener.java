@@ -0,0 +1,170 @@
+package io.github.kelari.atg.listener;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.*;
+import io.github.kelari.atg.model.ClassTest;
+import io.github.kelari.atg.process.ClassGeneration;
+import io.github.kelari.atg.process.KelariTreeScanner;
+import io.github.kelari.atg.util.GeneratorOptions;
+import io.github.kelari.atg.util.Predicates;
+
+import javax.lang.model.element.Element;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * {@code KelariTaskListener} is a {@link TaskListener} that intercepts the Java compiler's
+ * task lifecycle to analyze and collect metadata from source classes in order to
+ * generate corresponding test classes.
+ *
+ * <p>During the {@code ANALYZE} phase, this listener delegates scanning to the {@link KelariTreeScanner},
+ * which processes the compilation unit and collects the {@link ClassTest} entries it declares.
+ * Those entries are queued on a single {@link ClassGeneration} owned by this listener, so each
+ * test class is generated exactly once per compilation. When compilation is finished, the
+ * generation counters are reported as a compiler note.
+ *
+ * <p>The {@link ClassGeneration} is created along with the first test class. Unless the build
+ * directory is configured, it is derived from the location of that controller's source file
+ * (see {@link GeneratorOptions#withSourceFile}), so each module of a reactor build writes into its own tree.
+ *
+ * <p>Most compilation units are not controllers, so each unit first goes through a purely syntactic
+ * pre-filter (package filters, imports and class modifier annotations). Only the type declarations
+ * that pass it get a {@link TreePath} and an {@link Element} resolved.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ *
+ */
+public class KelariTaskListener implements TaskListener {
+
+    private final KelariTreeScanner kelariTreeScanner;
+    private ClassGeneration classGeneration;
+    private final GeneratorOptions options;
+    private final Trees trees;
+    private TreePath path;
+    /**
+     * Constructs a new {@code KelariTaskListener} with the provided tree scanner.
+     *
+     * @param kelariTreeScanner the scanner responsible for traversing class declarations
+     *                          and extracting metadata during the compilation process.
+     * @param options           the generator options given to the plugin
+     */
+    public KelariTaskListener(JavacTask task, KelariTreeScanner kelariTreeScanner, GeneratorOptions options) {
+        this.kelariTreeScanner = kelariTreeScanner;
+        this.options = options;
+        this.trees = Trees.instance(task);
+    }
+
+    /**
+     * Called at the beginning of a compiler task event. When the event is of kind {@code ANALYZE},
+     * it sets up the tree scanner with the current compilation unit and starts scanning the
+     * top-level class declarations that may carry {@code @KelariGenerateApiTest}.
+     *
+     * @param e the current task event
+     */
+    @Override
+    public void started(TaskEvent e) {
+        if (!e.getKind().equals(TaskEvent.Kind.ANALYZE))
+            return;
+        CompilationUnitTree compilationUnit = e.getCompilationUnit();
+        List<ClassTree> candidates = findCandidates(compilationUnit);
+        if (candidates.isEmpty())
+            return;
+        path = new TreePath(compilationUnit);
+        List<ClassTest> classTestList = new ArrayList<>();
+        // Defining the build tree and test list
+        this.kelariTreeScanner.setCompilationUnitTree(compilationUnit);
+        this.kelariTreeScanner.setClassTestList(classTestList);
+        // Configuring the logger to record messages
+        kelariTreeScanner.setCompilerLogger((kind, msg) ->
+                trees.printMessage(kind, msg, path.getLeaf(), path.getCompilationUnit())
+        );
+        // Processing the candidate type (class) declarations within the unit
+        for (ClassTree typeDecl : candidates) {
+            TreePath typePath = new TreePath(path, typeDecl);
+            Element element = trees.getElement(typePath);
+            // Scanning classes within the compilation unit
+            if (Objects.nonNull(kelariTreeScanner.getAnnotationIndex().findKelariGenerateApiTest(element)))
+                this.kelariTreeScanner.scan(typePath, null);
+        }
+        if (!classTestList.isEmpty()) {
+            TreePath unitPath = path;
+            ClassGeneration classGeneration = classGeneration(compilationUnit);
+            // Configuring the logger to record messages
+            classGeneration.setCompilerLogger((kind, msg) ->
+                    trees.printMessage(kind, msg, unitPath.getLeaf(), unitPath.getCompilationUnit())
+            );
+            // ✨ Generate the test class file(s) declared by this unit only
+            classGeneration.enqueue(classTestList);
+            classGeneration.generateSpec();
+        }
+    }
+
+    /**
+     * Returns the {@link ClassGeneration} of this compilation, creating it for the unit that declares
+     * the first test class.
+     *
+     * @param compilationUnit the unit declaring test classes
+     * @return the class generation
+     */
+    private ClassGeneration classGeneration(CompilationUnitTree compilationUnit) {
+        if (Objects.isNull(classGeneration)) {
+            GeneratorOptions generationOptions = options;
+            URI sourceUri = compilationUnit.getSourceFile().toUri();
+            if ("file".equals(sourceUri.getScheme()))
+                generationOptions = options.withSourceFile(Paths.get(sourceUri), packageNameOf(compilationUnit));
+            classGeneration = new ClassGeneration(generationOptions);
+        }
+        return classGeneration;
+    }
+
+    /**
+     * Cheap, purely syntactic rejection path: returns the top-level class declarations of the unit
+     * that may be annotated with {@code @KelariGenerateApiTest}, without resolving any symbol.
+     *
+     * @param compilationUnit the unit about to be analyzed
+     * @return the candidate declarations, empty when the unit can be skipped
+     */
+    private List<ClassTree> findCandidates(CompilationUnitTree compilationUnit) {
+        if (!options.isPackageIncluded(packageNameOf(compilationUnit)))
+            return List.of();
+        boolean importsKelari = Predicates.IMPORTS_KELARI_ANNOTATIONS.test(compilationUnit);
+        List<ClassTree> candidates = new ArrayList<>(1);
+        for (Tree typeDecl : compilationUnit.getTypeDecls())
+            if (typeDecl instanceof ClassTree classTree
+                    && ((importsKelari && Predicates.HAS_SIMPLE_KELARI_ANNOTATION_TREE.test(classTree))
+                    || Predicates.HAS_QUALIFIED_KELARI_ANNOTATION_TREE.test(classTree)))
+                candidates.add(classTree);
+        return candidates;
+    }
+
+    private static String packageNameOf(CompilationUnitTree compilationUnit) {
+        return Objects.nonNull(compilationUnit.getPackageName()) ? compilationUnit.getPackageName().toString() : "";
+    }
+
+    /**
+     * Called at the end of a compiler task event. When the whole compilation is finished,
+     * it waits for the pending generation tasks, persists the fingerprint manifest and reports
+     * how many test classes were generated, left up to date and skipped. With the {@code stats} option,
+     * the number of syntax tree nodes visited by the scanner is reported as well.
+     *
+     * @param e the finished task event
+     */
+    @Override
+    public void finished(TaskEvent e) {
+        if (e.getKind().equals(TaskEvent.Kind.COMPILATION) && Objects.nonNull(classGeneration)) {
+            if (options.isStatsEnabled() && kelariTreeScanner.getVisitedNodeCount() > 0)
+                classGeneration.note(String.format("Kelari: %d syntax tree nodes visited (%s scan)",
+                        kelariTreeScanner.getVisitedNodeCount(),
+                        kelariTreeScanner.getScanMode().name().toLowerCase(Locale.ROOT)));
+            classGeneration.finish();
+        }
+    }
+}
\ No newline at end of file
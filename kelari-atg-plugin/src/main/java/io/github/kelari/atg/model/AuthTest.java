@@ -0,0 +1,12 @@
+package io.github.kelari.atg.model;
+
+/**
+ * Credentials used by a generated test class to obtain a bearer token.
+ *
+ * @param authUrl            the authentication endpoint
+ * @param username           the username sent to the endpoint
+ * @param password           the password sent to the endpoint
+ * @param parameterTokenName the response attribute holding the token
+ */
+public record AuthTest(String authUrl, String username, String password, String parameterTokenName) {
+}
@@ -0,0 +1,143 @@
+package io.github.kelari.atg.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+public record CaseTest(
+        String displayName,
+        int order,
+        int timeout,
+        int expectedStatusCode,
+        boolean requiresAuth,
+        String dataProviderClassName,
+        boolean dataProviderInstantiable,
+        int repeat,
+        boolean enableLogging,
+        long responseTimeoutSeconds,
+        List<Header> expectedHeaders,
+        List<Cookie> expectedCookies,
+        List<JsonPath> jsonPaths,
+        ParameterMetadataTest methodParameters) {
+
+    public CaseTest {
+        expectedHeaders = List.copyOf(expectedHeaders);
+        expectedCookies = List.copyOf(expectedCookies);
+        jsonPaths = List.copyOf(jsonPaths);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private String displayName;
+        private int order;
+        private int timeout;
+        private int expectedStatusCode;
+        private boolean requiresAuth;
+        private String dataProviderClassName;
+        private boolean dataProviderInstantiable;
+        private int repeat;
+        private boolean enableLogging;
+        private long responseTimeoutSeconds;
+        private List<Header> expectedHeaders = List.of();
+        private List<Cookie> expectedCookies = List.of();
+        private List<JsonPath> jsonPaths = List.of();
+        private ParameterMetadataTest methodParameters = ParameterMetadataTest.EMPTY;
+
+        private Builder() {}
+
+        public Builder displayName(String displayName) {
+            this.displayName = displayName;
+            return this;
+        }
+
+        public Builder order(int order) {
+            this.order = order;
+            return this;
+        }
+
+        public Builder timeout(int timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder expectedStatusCode(int expectedStatusCode) {
+            this.expectedStatusCode = expectedStatusCode;
+            return this;
+        }
+
+        public Builder requiresAuth(boolean requiresAuth) {
+            this.requiresAuth = requiresAuth;
+            return this;
+        }
+
+        public Builder dataProviderClassName(String dataProviderClassName) {
+            this.dataProviderClassName = dataProviderClassName;
+            return this;
+        }
+
+        /**
+         * Resolves whether the generated test can create the data provider directly, with a constructor
+         * reference, instead of looking it up by name at runtime.
+         *
+         * @param instantiable tests the class name of the provider; called only if the case has a provider
+         * @return this builder
+         */
+        public Builder dataProviderInstantiable(Predicate<String> instantiable) {
+            this.dataProviderInstantiable = Objects.nonNull(dataProviderClassName) && instantiable.test(dataProviderClassName);
+            return this;
+        }
+
+        public Builder repeat(int repeat) {
+            this.repeat = repeat;
+            return this;
+        }
+
+        public Builder enableLogging(boolean enableLogging) {
+            this.enableLogging = enableLogging;
+            return this;
+        }
+
+        public Builder responseTimeoutSeconds(long responseTimeoutSeconds) {
+            this.responseTimeoutSeconds = responseTimeoutSeconds;
+            return this;
+        }
+
+        public Builder expectedHeaders(Header header) {
+            expectedHeaders = add(expectedHeaders, header);
+            return this;
+        }
+
+        public Builder expectedCookies(Cookie cookie) {
+            expectedCookies = add(expectedCookies, cookie);
+            return this;
+        }
+
+        public Builder jsonPaths(JsonPath jsonPath) {
+            jsonPaths = add(jsonPaths, jsonPath);
+            return this;
+        }
+
+        public Builder methodParameters(ParameterMetadataTest methodParameters) {
+            this.methodParameters = methodParameters;
+            return this;
+        }
+
+        public CaseTest build() {
+            return new CaseTest(displayName, order, timeout, expectedStatusCode, requiresAuth, dataProviderClassName,
+                    dataProviderInstantiable, repeat, enableLogging, responseTimeoutSeconds, expectedHeaders, expectedCookies, jsonPaths,
+                    methodParameters);
+        }
+
+        private static <T> List<T> add(List<T> list, T item) {
+            if (list.isEmpty())
+                list = new ArrayList<>(2);
+            list.add(item);
+            return list;
+        }
+    }
+}
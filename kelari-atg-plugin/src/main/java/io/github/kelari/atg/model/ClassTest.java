@@ -0,0 +1,107 @@
+package io.github.kelari.atg.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Model of a generated test class: its scenarios keyed by controller method name, plus the
+ * class-level features they need. The {@code requiresAuth}, {@code enablesLogging} and {@code hasOrderedCases}
+ * flags are computed once, in a single pass over every case, when the model is built.
+ *
+ * @param name         the simple name of the generated test class
+ * @param packageName  the package of the generated test class
+ * @param pathBase     the base path declared by the controller's {@code @RequestMapping}
+ * @param authTest     the credentials used to obtain a bearer token, may be {@code null}
+ * @param concurrent   whether the unordered cases run concurrently, see {@code KelariGenerateApiTest#concurrent()}
+ * @param scenarios    the scenarios keyed by controller method name, in declaration order
+ * @param requiresAuth    whether any case requires authentication
+ * @param enablesLogging  whether any case enables the request/response logging
+ * @param hasOrderedCases whether any case has an execution order
+ */
+public record ClassTest(
+        String name,
+        String packageName,
+        String pathBase,
+        AuthTest authTest,
+        boolean concurrent,
+        Map<String, SpecScenariosTest> scenarios,
+        boolean requiresAuth,
+        boolean enablesLogging,
+        boolean hasOrderedCases) {
+
+    public ClassTest {
+        scenarios = Collections.unmodifiableMap(new LinkedHashMap<>(scenarios));
+    }
+
+    /**
+     * Returns the stable identity of the generated test class, i.e. its fully qualified name.
+     * Used to guarantee that each test class is generated only once per compilation.
+     *
+     * @return the package-qualified class name
+     */
+    public String qualifiedName() {
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private String name = "";
+        private String pathBase = "";
+        private String packageName = "";
+        private AuthTest authTest;
+        private boolean concurrent;
+        private final Map<String, SpecScenariosTest> scenarios = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder packageName(String packageName) {
+            this.packageName = packageName;
+            return this;
+        }
+
+        public Builder pathBase(String pathBase) {
+            this.pathBase = pathBase;
+            return this;
+        }
+
+        public Builder authTest(AuthTest authTest) {
+            this.authTest = authTest;
+            return this;
+        }
+
+        public Builder concurrent(boolean concurrent) {
+            this.concurrent = concurrent;
+            return this;
+        }
+
+        public Builder scenario(SpecScenariosTest scenario) {
+            scenarios.put(scenario.methodName(), scenario);
+            return this;
+        }
+
+        public ClassTest build() {
+            boolean requiresAuth = false;
+            boolean enablesLogging = false;
+            boolean hasOrderedCases = false;
+            for (SpecScenariosTest scenario : scenarios.values()) {
+                for (CaseTest caseTest : scenario.caseTestList()) {
+                    requiresAuth |= caseTest.requiresAuth();
+                    enablesLogging |= caseTest.enableLogging();
+                    hasOrderedCases |= caseTest.order() > 0;
+                }
+            }
+            return new ClassTest(name, packageName, pathBase, authTest, concurrent, scenarios,
+                    requiresAuth, enablesLogging, hasOrderedCases);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.kelari.atg.model;
+
+public record Cookie(String name, String value) {
+
+    public Cookie {
+        name = name.intern();
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.kelari.atg.model;
+
+import java.util.List;
+
+public record Header(String name, List<String> values) {
+
+    public Header {
+        name = name.intern();
+        values = List.copyOf(values);
+    }
+
+    public Header(String name, String... values) {
+        this(name, List.of(values));
+    }
+}
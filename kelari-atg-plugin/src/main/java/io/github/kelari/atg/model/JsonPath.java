@@ -0,0 +1,6 @@
+package io.github.kelari.atg.model;
+
+import io.github.kelari.atg.annotation.MatcherType;
+
+public record JsonPath(String path, MatcherType type, String value, String matcherClass) {
+}
@@ -0,0 +1,12 @@
+package io.github.kelari.atg.model;
+
+/**
+ * A parameter bound with {@code @MatrixVariable}.
+ *
+ * @param paramName the name of the method parameter (e.g., "color")
+ * @param name      the value of {@code @MatrixVariable(name = "...")}, if present
+ * @param pathVar   the value of {@code @MatrixVariable(pathVar = "...")}, if present
+ * @param type      the parameter type (e.g., "java.lang.String")
+ */
+public record MatrixParamMetadata(String paramName, String name, String pathVar, String type) {
+}
@@ -0,0 +1,117 @@
+package io.github.kelari.atg.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parameters of a controller method, grouped by how they are bound. Each map preserves the
+ * declaration order of the parameters and maps a parameter (or header) name to its type name.
+ * Empty groups share a single empty map, and type names are interned, since the same few types
+ * are repeated across every method of a code base.
+ */
+public record ParameterMetadataTest(
+        Map<String, String> pathParams,
+        Map<String, String> queryParams,
+        Map<String, String> headerParams,
+        Map<String, String> cookieParams,
+        Map<String, Map<String, String>> matrixParams,
+        Map<String, String> body,
+        boolean multipart) {
+
+    /** Metadata of a method without parameters. */
+    public static final ParameterMetadataTest EMPTY = builder().build();
+
+    /**
+     * Checks whether any body parameter holds binary content, such as {@code MultipartFile},
+     * {@code Resource} or {@code byte[]}.
+     *
+     * @return {@code true} if a body parameter type is a binary type
+     */
+    public boolean hasBinaryBody() {
+        for (String type : body.values())
+            if (type.contains("MultipartFile") || type.contains("Resource") || type.contains("byte[]"))
+                return true;
+        return false;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private Map<String, String> pathParams;
+        private Map<String, String> queryParams;
+        private Map<String, String> headerParams;
+        private Map<String, String> cookieParams;
+        private Map<String, Map<String, String>> matrixParams;
+        private Map<String, String> body;
+        private boolean multipart;
+
+        private Builder() {}
+
+        public Builder pathParam(String name, String type) {
+            pathParams = put(pathParams, name, type);
+            return this;
+        }
+
+        public Builder queryParam(String name, String type) {
+            queryParams = put(queryParams, name, type);
+            return this;
+        }
+
+        public Builder headerParam(String name, String type) {
+            headerParams = put(headerParams, name.intern(), type);
+            return this;
+        }
+
+        public Builder cookieParam(String name, String type) {
+            cookieParams = put(cookieParams, name, type);
+            return this;
+        }
+
+        public Builder matrixParam(String pathVar, String name, String type) {
+            if (matrixParams == null)
+                matrixParams = new LinkedHashMap<>(2);
+            matrixParams.compute(pathVar, (key, params) -> put(params, name, type));
+            return this;
+        }
+
+        public Builder body(String name, String type) {
+            body = put(body, name, type);
+            return this;
+        }
+
+        public Builder multipart(boolean multipart) {
+            this.multipart = multipart;
+            return this;
+        }
+
+        public ParameterMetadataTest build() {
+            Map<String, Map<String, String>> matrix = null;
+            if (matrixParams != null) {
+                matrix = new LinkedHashMap<>(matrixParams);
+                matrix.replaceAll((pathVar, params) -> seal(params));
+            }
+            return new ParameterMetadataTest(seal(pathParams), seal(queryParams), seal(headerParams),
+                    seal(cookieParams), seal(matrix), seal(body), multipart);
+        }
+
+        private static Map<String, String> put(Map<String, String> map, String name, String type) {
+            if (map == null)
+                map = new LinkedHashMap<>(2);
+            map.put(name, type.intern());
+            return map;
+        }
+
+        /** Returns an unmodifiable copy of a group, so that reusing this builder leaves the built records unchanged. */
+        private static <V> Map<String, V> seal(Map<String, V> map) {
+            if (map == null)
+                return Map.of();
+            Map<String, V> copy = new LinkedHashMap<>((int) Math.ceil(map.size() / 0.75));
+            copy.putAll(map);
+            return Collections.unmodifiableMap(copy);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.kelari.atg.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record SpecScenariosTest(String methodName, String pathMethod, String httpMethod, List<CaseTest> caseTestList) {
+
+    public SpecScenariosTest {
+        caseTestList = List.copyOf(caseTestList);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private String methodName = "";
+        private String pathMethod = "";
+        private String httpMethod = "";
+        private List<CaseTest> caseTestList = List.of();
+
+        private Builder() {}
+
+        public Builder methodName(String methodName) {
+            this.methodName = methodName;
+            return this;
+        }
+
+        public Builder pathMethod(String pathMethod) {
+            this.pathMethod = pathMethod;
+            return this;
+        }
+
+        public Builder httpMethod(String httpMethod) {
+            this.httpMethod = httpMethod;
+            return this;
+        }
+
+        public Builder caseTest(CaseTest caseTest) {
+            if (caseTestList.isEmpty())
+                caseTestList = new ArrayList<>(2);
+            caseTestList.add(caseTest);
+            return this;
+        }
+
+        public SpecScenariosTest build() {
+            return new SpecScenariosTest(methodName, pathMethod, httpMethod, caseTestList);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.kelari.atg.plugin;
+
+import com.google.auto.service.AutoService;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.Plugin;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.source.util.Trees;
+import io.github.kelari.atg.listener.KelariTaskListener;
+import io.github.kelari.atg.process.AnnotationIndex;
+import io.github.kelari.atg.process.KelariTreeScanner;
+import io.github.kelari.atg.util.Constants;
+import io.github.kelari.atg.util.GeneratorOptions;
+
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * {@code KelariGenerateApiTestPlugin} is a custom annotation processing plugin for the Java compiler
+ * that integrates with the {@link JavacTask}. This plugin is responsible for generating API test cases
+ * from annotated Java source code during the compilation process.
+ *
+ * <p>The plugin listens for the compilation task events and processes the Java Abstract Syntax Tree (AST)
+ * to identify classes and methods annotated with specific annotations. It then triggers the
+ * necessary actions to generate test cases based on the extracted metadata.
+ *
+ * <p>It is registered using the {@link AutoService} annotation, which automatically registers this
+ * plugin with the Java Compiler (Javac) so that it can be executed during the compilation process.
+ *
+ * <p>The {@code KelariGenerateApiTestPlugin} implements the {@link Plugin} interface and overrides
+ * its methods to provide the necessary functionality for initializing and setting up the task listener.
+ *
+ * <p>Compilations the plugin is initialized for are remembered, so that the annotation processor
+ * frontend stays idle when both are on the processor path of the same compilation.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @see KelariTaskListener
+ * @see KelariTreeScanner
+ * @see Constants
+ * @see io.github.kelari.atg.processor.KelariGenerateApiTestProcessor
+ */
+@AutoService(Plugin.class)
+public class KelariGenerateApiTestPlugin implements Plugin {
+
+    private static final Set<Elements> ACTIVE_COMPILATIONS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Returns the name of the plugin.
+     *
+     * @return the name of the plugin
+     */
+    @Override
+    public String getName() {
+        return Constants.PLUGIN_NAME;
+    }
+
+    /**
+     * Initializes the plugin, setting up the task listener to process the compilation task.
+     * This method is invoked when the Java compiler starts processing a source file.
+     * An invalid option is reported as a compiler error, and no test is generated.
+     *
+     * @param task the {@link JavacTask} instance that represents the current compilation task
+     * @param args additional {@code key=value} arguments passed to the plugin, see {@link GeneratorOptions}
+     */
+    @Override
+    public void init(JavacTask task, String... args) {
+        ACTIVE_COMPILATIONS.add(task.getElements());
+        Trees trees = Trees.instance(task);
+        GeneratorOptions options;
+        try {
+            options = GeneratorOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            reportInvalidOptions(task, trees, "Kelari: " + e.getMessage());
+            return;
+        }
+        task.setTaskListener(new KelariTaskListener(task,
+                new KelariTreeScanner(trees, new AnnotationIndex(task.getElements()), options.getScanMode()), options));
+    }
+
+    /**
+     * Reports invalid plugin options as a compiler error. The compiler has no diagnostic position before
+     * the sources are parsed, so the error is reported on the first parsed compilation unit.
+     *
+     * @param task    the compilation task
+     * @param trees   the tree utilities of the task
+     * @param message the error message
+     */
+    private static void reportInvalidOptions(JavacTask task, Trees trees, String message) {
+        task.addTaskListener(new TaskListener() {
+            private boolean reported;
+
+            @Override
+            public void finished(TaskEvent e) {
+                if (!reported && e.getKind() == TaskEvent.Kind.PARSE) {
+                    reported = true;
+                    trees.printMessage(Diagnostic.Kind.ERROR, message, e.getCompilationUnit(), e.getCompilationUnit());
+                }
+            }
+        });
+    }
+
+    /**
+     * Checks whether the plugin was initialized for the compilation owning the given element utilities.
+     *
+     * @param elements the element utilities of a compilation
+     * @return {@code true} if the plugin generates the tests of that compilation
+     */
+    public static boolean isActive(Elements elements) {
+        return ACTIVE_COMPILATIONS.contains(elements);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,236 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.annotation.ApiTestSpec;
+import io.github.kelari.atg.annotation.KelariGenerateApiTest;
+import io.github.kelari.atg.data.DataLoad;
+import io.github.kelari.atg.util.Constants;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-compilation index of the annotation types the generator reacts to.
+ *
+ * <p>The {@link TypeElement}s of Kelari's annotations and of Spring's mapping and parameter
+ * annotations are resolved once, on first use, through {@link Elements}. Annotation mirrors are
+ * then classified by the identity of their type element, through a map lookup, instead of
+ * comparing type names or building annotation proxies with {@link Element#getAnnotation(Class)}.</p>
+ *
+ * <p>Annotation types missing from the classpath are simply never matched. An index must not be
+ * shared across compilations, since type elements belong to a single compiler instance.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class AnnotationIndex {
+
+    private static final String SPRING_ANNOTATION_PACKAGE = "org.springframework.web.bind.annotation.";
+
+    private final Elements elements;
+    private TypeElement kelariGenerateApiTest;
+    private TypeElement apiTestSpec;
+    private TypeElement requestMapping;
+    private Map<Element, String> httpMethods;
+    private Map<Element, ParameterKind> parameterKinds;
+    private TypeElement dataLoad;
+    private final Map<String, Boolean> instantiableDataLoads = new HashMap<>();
+
+    /**
+     * Creates an index backed by the elements of the current compilation. Type elements are
+     * resolved lazily, once symbols have been entered.
+     *
+     * @param elements the element utilities of the current compilation
+     */
+    public AnnotationIndex(Elements elements) {
+        this.elements = Objects.requireNonNull(elements);
+    }
+
+    /**
+     * Returns the {@link KelariGenerateApiTest} mirror declared on an element.
+     *
+     * @param element the element to inspect, may be {@code null}
+     * @return the annotation mirror, or {@code null} if the element is not annotated
+     */
+    public AnnotationMirror findKelariGenerateApiTest(Element element) {
+        if (element == null)
+            return null;
+        resolve();
+        for (AnnotationMirror annotation : element.getAnnotationMirrors())
+            if (typeOf(annotation) == kelariGenerateApiTest)
+                return annotation;
+        return null;
+    }
+
+    /**
+     * Checks whether the mirror is an {@link ApiTestSpec} annotation.
+     *
+     * @param annotation the annotation mirror
+     * @return {@code true} if it is {@code @ApiTestSpec}
+     */
+    public boolean isApiTestSpec(AnnotationMirror annotation) {
+        resolve();
+        return typeOf(annotation) == apiTestSpec;
+    }
+
+    /**
+     * Checks whether the mirror is Spring's {@code @RequestMapping}.
+     *
+     * @param annotation the annotation mirror
+     * @return {@code true} if it is {@code @RequestMapping}
+     */
+    public boolean isRequestMapping(AnnotationMirror annotation) {
+        resolve();
+        return typeOf(annotation) == requestMapping;
+    }
+
+    /**
+     * Returns the HTTP method of a Spring mapping annotation such as {@code @GetMapping}.
+     *
+     * @param annotation the annotation mirror
+     * @return the lowercase HTTP method (see {@link Constants.HttpMethod}), or {@code null}
+     *         if the mirror is not a method-specific mapping
+     */
+    public String httpMethodOf(AnnotationMirror annotation) {
+        resolve();
+        return httpMethods.get(typeOf(annotation));
+    }
+
+    /**
+     * Returns the kind of a Spring parameter annotation such as {@code @PathVariable}.
+     *
+     * @param annotation the annotation mirror
+     * @return the parameter kind, or {@code null} if the mirror is not a parameter annotation
+     */
+    public ParameterKind parameterKindOf(AnnotationMirror annotation) {
+        resolve();
+        return parameterKinds.get(typeOf(annotation));
+    }
+
+    /**
+     * Checks whether a data provider can be created by the generated test with a constructor reference:
+     * the class is visible in this compilation (main sources or classpath), public and concrete, not
+     * generic, top-level or nested static in public classes, implements {@link DataLoad} and declares a
+     * public no-arg constructor. Providers living in the test sources are not visible and are looked up
+     * by name at runtime instead.
+     *
+     * @param className the canonical name of the provider class
+     * @return {@code true} if the provider can be referenced directly
+     */
+    public boolean isInstantiableDataLoad(String className) {
+        return instantiableDataLoads.computeIfAbsent(className, name -> {
+            if (dataLoad == null)
+                dataLoad = elements.getTypeElement(DataLoad.class.getCanonicalName());
+            TypeElement type = name.isEmpty() ? null : elements.getTypeElement(name);
+            return type != null
+                    && type.getKind() == ElementKind.CLASS
+                    && !type.getModifiers().contains(Modifier.ABSTRACT)
+                    && type.getTypeParameters().isEmpty()
+                    && isAccessible(type)
+                    && implementsDataLoad(type)
+                    && ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                            .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                                    && constructor.getModifiers().contains(Modifier.PUBLIC));
+        });
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        if (!type.getModifiers().contains(Modifier.PUBLIC))
+            return false;
+        Element enclosing = type.getEnclosingElement();
+        if (enclosing instanceof TypeElement enclosingType)
+            return type.getModifiers().contains(Modifier.STATIC) && isAccessible(enclosingType);
+        return enclosing.getKind() == ElementKind.PACKAGE;
+    }
+
+    private boolean implementsDataLoad(TypeElement type) {
+        if (type == null)
+            return false;
+        if (type.equals(dataLoad))
+            return true;
+        for (TypeMirror anInterface : type.getInterfaces())
+            if (implementsDataLoad(asTypeElement(anInterface)))
+                return true;
+        return implementsDataLoad(asTypeElement(type.getSuperclass()));
+    }
+
+    private static TypeElement asTypeElement(TypeMirror type) {
+        return type instanceof DeclaredType declaredType ? (TypeElement) declaredType.asElement() : null;
+    }
+
+    /**
+     * Returns all attribute values of a mirror, including defaults, in a single map.
+     *
+     * @param annotation the annotation mirror
+     * @return the attribute values keyed by attribute element
+     */
+    public Map<? extends ExecutableElement, ? extends AnnotationValue> getElementValuesWithDefaults(AnnotationMirror annotation) {
+        return elements.getElementValuesWithDefaults(annotation);
+    }
+
+    private static Element typeOf(AnnotationMirror annotation) {
+        return annotation.getAnnotationType().asElement();
+    }
+
+    private void resolve() {
+        if (httpMethods != null)
+            return;
+        kelariGenerateApiTest = elements.getTypeElement(KelariGenerateApiTest.class.getCanonicalName());
+        apiTestSpec = elements.getTypeElement(ApiTestSpec.class.getCanonicalName());
+        requestMapping = elements.getTypeElement(SPRING_ANNOTATION_PACKAGE + Constants.Annotation.REQUEST_MAPPING);
+
+        Map<Element, String> methods = new IdentityHashMap<>();
+        putIfResolved(methods, SPRING_ANNOTATION_PACKAGE + Constants.Annotation.GET_MAPPING, Constants.HttpMethod.GET);
+        putIfResolved(methods, SPRING_ANNOTATION_PACKAGE + Constants.Annotation.POST_MAPPING, Constants.HttpMethod.POST);
+        putIfResolved(methods, SPRING_ANNOTATION_PACKAGE + Constants.Annotation.PUT_MAPPING, Constants.HttpMethod.PUT);
+        putIfResolved(methods, SPRING_ANNOTATION_PACKAGE + Constants.Annotation.DELETE_MAPPING, Constants.HttpMethod.DELETE);
+        putIfResolved(methods, SPRING_ANNOTATION_PACKAGE + Constants.Annotation.PATCH_MAPPING, Constants.HttpMethod.PATCH);
+        putIfResolved(methods, SPRING_ANNOTATION_PACKAGE + Constants.Annotation.HEAD_MAPPING, Constants.HttpMethod.HEAD);
+
+        Map<Element, ParameterKind> kinds = new IdentityHashMap<>();
+        for (ParameterKind kind : ParameterKind.values())
+            putIfResolved(kinds, kind.annotationName, kind);
+
+        parameterKinds = kinds;
+        httpMethods = methods;
+    }
+
+    private <V> void putIfResolved(Map<Element, V> map, String annotationName, V value) {
+        TypeElement type = elements.getTypeElement(annotationName);
+        if (type != null)
+            map.put(type, value);
+    }
+
+    /**
+     * Spring annotations that bind a controller method parameter.
+     */
+    public enum ParameterKind {
+        PATH_VARIABLE(Constants.ParameterAnnotation.PATH_VARIABLE),
+        REQUEST_PARAM(Constants.ParameterAnnotation.REQUEST_PARAM),
+        REQUEST_HEADER(Constants.ParameterAnnotation.REQUEST_HEADER),
+        REQUEST_BODY(Constants.ParameterAnnotation.REQUEST_BODY),
+        COOKIE_VALUE(Constants.ParameterAnnotation.COOKIE_VALUE),
+        MATRIX_VARIABLE(Constants.ParameterAnnotation.MATRIX_VARIABLE),
+        MODEL_ATTRIBUTE(Constants.ParameterAnnotation.MODEL_ATTRIBUTE),
+        REQUEST_PART(Constants.ParameterAnnotation.REQUEST_PART);
+
+        private final String annotationName;
+
+        ParameterKind(String annotationName) {
+            this.annotationName = annotationName;
+        }
+    }
+}
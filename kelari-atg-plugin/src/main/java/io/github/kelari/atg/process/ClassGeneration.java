@@ -0,0 +1,679 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.model.ClassTest;
+import com.squareup.javapoet.*;
+import io.github.kelari.atg.model.SpecScenariosTest;
+import io.github.kelari.atg.process.emitter.DirectTestClassSource;
+import io.github.kelari.atg.process.handler.TestClassMembers;
+import io.github.kelari.atg.process.helper.ClassGenerationHelper;
+import io.github.kelari.atg.util.CompilerLogger;
+import io.github.kelari.atg.util.Constants;
+import io.github.kelari.atg.util.GeneratorOptions;
+import io.github.kelari.atg.util.Predicates;
+
+import javax.lang.model.element.Modifier;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * A utility class for generating test classes with methods based on annotations.
+ * This class helps in writing test classes with autogenerated test methods for HTTP endpoints
+ * using JavaPoet and metadata defined in {@code ClassTest} and related models.
+ * <p>
+ * It supports conditional generation for multipart and authenticated endpoints.
+ * </p>
+ *
+ * <p>Example generated structure includes:</p>
+ * <ul>
+ *   <li>Class-level annotations (e.g. {@code @SpringBootTest})</li>
+ *   <li>Injection of {@code WebTestClient}</li>
+ *   <li>Test methods per HTTP scenario</li>
+ *   <li>Authentication handling if required</li>
+ *   <li>Concurrent execution, with the ordered test methods grouped in a {@code @Nested} class</li>
+ *   <li>Constants and request helpers shared by the test methods</li>
+ * </ul>
+ *
+ * <p>A test class with more test methods than the {@code maxMethodsPerClass} option is split into
+ * numbered shards ({@code XxxGeneratedPart1Test..XxxGeneratedPartNTest}) extending a generated abstract base
+ * class ({@code XxxGeneratedTestBase}) that holds the class annotations, the fields and the helper methods,
+ * so that the shards are compiled and run in parallel. The shard names end with {@code Test}, so that
+ * they match the default includes of the Maven Surefire and Failsafe plugins.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @version 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class ClassGeneration implements CompilerLogger {
+
+    private final Queue<ClassTest> pendingClassTests = new ArrayDeque<>();
+    private final Set<String> generatedClassNames = new HashSet<>();
+    private final List<Future<?>> pendingTasks = new ArrayList<>();
+    private final Queue<DeferredMessage> deferredMessages = new ConcurrentLinkedQueue<>();
+    private final FingerprintManifest fingerprintManifest;
+    private final TestSourceSink sink;
+    private final int threads;
+    private final Emitter emitter;
+    private final boolean emitterFallback;
+    private final int maxMethodsPerClass;
+    private ExecutorService executor;
+    private CompilerLogger compilerLogger;
+    private final AtomicInteger generatedCount = new AtomicInteger();
+    private final AtomicInteger upToDateCount = new AtomicInteger();
+    private int skippedCount;
+
+    /**
+     * Constructs a new {@code ClassGeneration} configured by the given options, writing the test
+     * classes under the output directory of the options.
+     *
+     * @param options the generator options; when incremental generation is enabled, classes whose
+     *                model fingerprint matches the manifest under the build directory are not rewritten.
+     *                The {@code threads} option sets the size of the worker pool ({@code 0} generates
+     *                synchronously on the compiler thread), the {@code emitter} option selects the
+     *                {@link Emitter} of the test methods, and the {@code maxMethodsPerClass} option sets
+     *                the size above which a test class is split into shards
+     */
+    public ClassGeneration(GeneratorOptions options) {
+        this(options, new DirectoryTestSourceSink(options.getOutputDir()));
+    }
+
+    /**
+     * Constructs a new {@code ClassGeneration} configured by the given options, writing the test
+     * classes to the given sink. With a worker pool, the sink must be thread-safe.
+     *
+     * @param options the generator options, see {@link #ClassGeneration(GeneratorOptions)}
+     * @param sink    the destination of the generated sources
+     */
+    public ClassGeneration(GeneratorOptions options, TestSourceSink sink) {
+        this.fingerprintManifest = options.isIncremental() ? new FingerprintManifest(options.getBuildDir()) : null;
+        this.sink = Objects.requireNonNull(sink);
+        this.threads = options.getThreads();
+        Emitter requested = options.getEmitter();
+        this.emitterFallback = requested == Emitter.DIRECT && !ClassGenerationHelper.supportsDirectEmitter();
+        this.emitter = emitterFallback ? Emitter.JAVAPOET : requested;
+        this.maxMethodsPerClass = options.getMaxMethodsPerClass();
+    }
+
+    /**
+     * Sets the compiler logger implementation for diagnostics.
+     *
+     * @param logger logger implementation to be used during code generation
+     */
+    public void setCompilerLogger(CompilerLogger logger) {
+        this.compilerLogger = logger;
+    }
+
+    /**
+     * Logs a diagnostic message if the logger is available. Must be called on the compiler thread.
+     *
+     * @param kind    the severity of the message (e.g., NOTE, WARNING, ERROR)
+     * @param message the message to log
+     */
+    public void log(Diagnostic.Kind kind, String message) {
+        if (Objects.nonNull(compilerLogger))
+            compilerLogger.log(kind, message);
+    }
+
+    /**
+     * Adds the given class test definitions to the generation queue.
+     *
+     * @param classTests the class test definitions extracted from a compilation unit
+     */
+    public void enqueue(Collection<ClassTest> classTests) {
+        pendingClassTests.addAll(classTests);
+    }
+
+    /**
+     * Main entry point that drains the generation queue. Each test class is generated exactly once,
+     * keyed by its fully qualified name; repeated definitions are counted as skipped, and classes
+     * whose model is unchanged since the previous build are counted as up to date.
+     *
+     * <p>With a worker pool, the classes are handed to the pool and this method returns immediately,
+     * so JavaPoet formatting and disk I/O overlap with the analysis of the remaining compilation units.
+     * The extracted model only holds strings and is never modified after being queued, and each class
+     * is built and written independently, so the output is byte-identical to the sequential mode.</p>
+     */
+    public void generateSpec() {
+        ClassTest classTest;
+        while ((classTest = pendingClassTests.poll()) != null) {
+            if (!generatedClassNames.add(classTest.qualifiedName())) {
+                skippedCount++;
+            } else if (threads > 0) {
+                ClassTest queued = classTest;
+                pendingTasks.add(executor().submit(() -> generateIfChanged(queued)));
+            } else {
+                try {
+                    generateIfChanged(classTest);
+                } catch (RuntimeException e) {
+                    reportFailure(e);
+                }
+            }
+        }
+        flushDeferredMessages();
+    }
+
+    /**
+     * Returns the number of test classes generated so far.
+     *
+     * @return the generated classes counter
+     */
+    public int getGeneratedCount() {
+        return generatedCount.get();
+    }
+
+    /**
+     * Returns the number of test classes left untouched because their model did not change.
+     *
+     * @return the up-to-date classes counter
+     */
+    public int getUpToDateCount() {
+        return upToDateCount.get();
+    }
+
+    /**
+     * Returns the number of class test definitions skipped because their class was already generated.
+     *
+     * @return the skipped classes counter
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Completes the generation: waits for the worker pool to drain, reports generation failures
+     * as errors, persists the fingerprint manifest and reports the generation counters as a
+     * compiler note. Does nothing if no class was queued during the compilation.
+     */
+    public void finish() {
+        if (generatedClassNames.isEmpty())
+            return;
+        awaitPendingTasks();
+        flushDeferredMessages();
+        if (emitterFallback)
+            log(Diagnostic.Kind.WARNING, "Kelari: the direct emitter was requested, but a registered MethodSpecHandler "
+                    + "does not implement DirectMethodSpecHandler; the JavaPoet emitter was used");
+        if (Objects.nonNull(fingerprintManifest)) {
+            try {
+                fingerprintManifest.save();
+            } catch (IOException e) {
+                log(Diagnostic.Kind.WARNING, "Could not write " + fingerprintManifest.getManifestPath() + ": " + e.getMessage());
+            }
+        }
+        log(Diagnostic.Kind.NOTE, String.format("Kelari: %d classes generated, %d up to date, %d skipped",
+                generatedCount.get(), upToDateCount.get(), skippedCount));
+    }
+
+    /**
+     * Waits for every submitted generation task and shuts the worker pool down.
+     * Failures are reported as compiler errors once all tasks completed.
+     */
+    private void awaitPendingTasks() {
+        for (Future<?> task : pendingTasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                reportFailure(Objects.requireNonNullElse(e.getCause(), e));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log(Diagnostic.Kind.ERROR, "Interrupted while waiting for test class generation");
+                break;
+            }
+        }
+        pendingTasks.clear();
+        if (Objects.nonNull(executor)) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Reports a generation failure as a compiler error.
+     *
+     * @param failure the exception raised while generating a test class
+     */
+    private void reportFailure(Throwable failure) {
+        log(Diagnostic.Kind.ERROR, failure.getMessage()
+                + (Objects.nonNull(failure.getCause()) ? ": " + failure.getCause() : ""));
+    }
+
+    /**
+     * Lazily creates the bounded worker pool, so compilations without Kelari annotations never start threads.
+     * Workers are daemon threads and never block the compiler from exiting.
+     *
+     * @return the worker pool
+     */
+    private ExecutorService executor() {
+        if (Objects.isNull(executor)) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "kelari-generator-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Records a message produced during generation. The compiler log is not thread-safe, so messages
+     * are only forwarded to it from the compiler thread (see {@link #flushDeferredMessages()}).
+     *
+     * @param kind    the severity of the message
+     * @param message the message to log
+     */
+    private void defer(Diagnostic.Kind kind, String message) {
+        deferredMessages.add(new DeferredMessage(kind, message));
+    }
+
+    /**
+     * Forwards the messages recorded by the generation tasks to the compiler log.
+     */
+    private void flushDeferredMessages() {
+        DeferredMessage message;
+        while ((message = deferredMessages.poll()) != null)
+            log(message.kind(), message.message());
+    }
+
+    /**
+     * Generates the test class unless the fingerprint manifest shows that the existing files
+     * were produced from an identical model, in which case JavaPoet is not invoked at all.
+     * A generated source identical to the existing file is not rewritten either, and counts as up to date.
+     * May run on a worker thread.
+     *
+     * @param classTest the metadata for the class to generate
+     */
+    private void generateIfChanged(ClassTest classTest) {
+        String fingerprint = null;
+        if (Objects.nonNull(fingerprintManifest)) {
+            fingerprint = ClassTestFingerprint.of(classTest, maxMethodsPerClass);
+            if (fingerprintManifest.isUpToDate(classTest.qualifiedName(), fingerprint) && allExist(classTest)) {
+                upToDateCount.incrementAndGet();
+                return;
+            }
+        }
+        boolean written = generateClassFor(classTest);
+        if (Objects.nonNull(fingerprint))
+            fingerprintManifest.update(classTest.qualifiedName(), fingerprint);
+        (written ? generatedCount : upToDateCount).incrementAndGet();
+    }
+
+    /**
+     * A diagnostic recorded off the compiler thread.
+     */
+    private record DeferredMessage(Diagnostic.Kind kind, String message) {}
+
+    /**
+     * Generates a Java test class file for a given {@link ClassTest} definition, with the configured {@link Emitter}.
+     *
+     * @param classTest the metadata for the class to generate
+     * @return {@code true} if the file was written, {@code false} if its content was unchanged
+     */
+    private boolean generateClassFor(ClassTest classTest) {
+        TestClassMembers members = new TestClassMembers();
+        if (emitter == Emitter.DIRECT) {
+            return generateClassFor(classTest, members,
+                    generateTestMethods(classTest, members, ClassGenerationHelper::generateDirectTestMethod),
+                    (testClass, testMethods, orderedGroup, orderedMethods) -> new DirectTestClassSource(testClass.build(),
+                            type -> javaFile(classTest, type), testMethods,
+                            Objects.nonNull(orderedGroup) ? orderedGroup.build() : null, orderedMethods));
+        }
+        return generateClassFor(classTest, members,
+                generateTestMethods(classTest, members, ClassGenerationHelper::generateTestMethod),
+                (testClass, testMethods, orderedGroup, orderedMethods) -> {
+                    testClass.addMethods(testMethods);
+                    if (Objects.nonNull(orderedGroup))
+                        testClass.addType(orderedGroup.addMethods(orderedMethods).build());
+                    return javaFile(classTest, testClass.build())::writeTo;
+                });
+    }
+
+    /**
+     * Writes the test class, or its shards and their base class when it has more test methods than
+     * {@code maxMethodsPerClass}, then deletes the files left over from a previous layout.
+     * The ordered test methods form the first shard on their own, whatever their number, so that they
+     * keep running in their {@code @Order} sequence. The other test methods are spread evenly over the
+     * fewest shards holding at most {@code maxMethodsPerClass} methods, keeping their declaration order.
+     *
+     * @param classTest     the metadata for the class to generate
+     * @param members       the constants and helper methods shared by the test methods
+     * @param testMethods   the test methods, in declaration order
+     * @param sourceFactory creates the source of a class from its members other than the test methods
+     * @param <T>           the type of the generated methods
+     * @return {@code true} if any file was written, {@code false} if all their contents were unchanged
+     */
+    private <T> boolean generateClassFor(ClassTest classTest, TestClassMembers members, List<TestMethod<T>> testMethods,
+                                         TestClassSourceFactory<T> sourceFactory) {
+        int orderedCount = 0;
+        for (TestMethod<T> testMethod : testMethods)
+            if (testMethod.ordered())
+                orderedCount++;
+        int shardCount = shardCount(testMethods.size(), orderedCount);
+        boolean written;
+        if (shardCount == 1) {
+            written = writeTestFile(createSource(classTest, buildTestClass(classTest, classTest.name(), members, false),
+                            testMethods, sourceFactory),
+                    classTest, classTest.name());
+        } else {
+            String baseClassName = baseClassName(classTest);
+            written = writeTestFile(javaFile(classTest, buildTestClass(classTest, baseClassName, members, true).build())::writeTo,
+                    classTest, baseClassName);
+            ClassName baseClass = ClassName.get(classTest.packageName(), baseClassName);
+            List<TestMethod<T>> ordered = new ArrayList<>(orderedCount);
+            List<TestMethod<T>> unordered = new ArrayList<>(testMethods.size() - orderedCount);
+            for (TestMethod<T> testMethod : testMethods)
+                (testMethod.ordered() ? ordered : unordered).add(testMethod);
+            List<List<TestMethod<T>>> shards = new ArrayList<>(shardCount);
+            if (!ordered.isEmpty())
+                shards.add(ordered);
+            int unorderedShards = shardCount - shards.size();
+            for (int shard = 0; shard < unorderedShards; shard++)
+                shards.add(unordered.subList(shard * unordered.size() / unorderedShards,
+                        (shard + 1) * unordered.size() / unorderedShards));
+            for (int shard = 0; shard < shardCount; shard++) {
+                String shardClassName = shardClassName(classTest, shard + 1);
+                TypeSpec.Builder shardClass = TypeSpec.classBuilder(shardClassName)
+                        .addModifiers(Modifier.PUBLIC)
+                        .superclass(baseClass);
+                written |= writeTestFile(createSource(classTest, shardClass, shards.get(shard), sourceFactory),
+                        classTest, shardClassName);
+            }
+        }
+        try {
+            sink.deleteStale(classTest, Set.copyOf(classNames(classTest, shardCount)));
+        } catch (IOException e) {
+            throw new RuntimeException("Error deleting stale test files for class: " + classTest.name(), e);
+        }
+        return written;
+    }
+
+    /**
+     * Creates the source of a class holding test methods. In a concurrent test class, the ordered
+     * test methods are moved to a {@code @Nested} group running them one after the other, in order.
+     *
+     * @param classTest     the test definition
+     * @param testClass     the class, without its test methods
+     * @param testMethods   the test methods of the class, in declaration order
+     * @param sourceFactory creates the source of the class
+     * @param <T>           the type of the generated methods
+     * @return the source of the class
+     */
+    private static <T> TestSourceSink.Source createSource(ClassTest classTest, TypeSpec.Builder testClass,
+                                                          List<TestMethod<T>> testMethods,
+                                                          TestClassSourceFactory<T> sourceFactory) {
+        List<T> methods = new ArrayList<>(testMethods.size());
+        List<T> orderedMethods = new ArrayList<>();
+        for (TestMethod<T> testMethod : testMethods)
+            (classTest.concurrent() && testMethod.ordered() ? orderedMethods : methods).add(testMethod.method());
+        TypeSpec.Builder orderedGroup = orderedMethods.isEmpty() ? null : TypeSpec.classBuilder(Constants.ORDERED_GROUP_CLASS_NAME)
+                .addAnnotation(Constants.Imports.NESTED)
+                .addAnnotation(executionAnnotation("SAME_THREAD"))
+                .addAnnotation(testMethodOrderAnnotation());
+        return sourceFactory.create(testClass, methods, orderedGroup, orderedMethods);
+    }
+
+    private static AnnotationSpec executionAnnotation(String mode) {
+        return AnnotationSpec.builder(Constants.Imports.EXECUTION)
+                .addMember("value", "$T.$L", Constants.Imports.EXECUTION_MODE, mode)
+                .build();
+    }
+
+    private static AnnotationSpec testMethodOrderAnnotation() {
+        return AnnotationSpec.builder(Constants.Imports.TEST_METHOD_ORDER)
+                .addMember("value", "$T.class", Constants.Imports.ORDER_ANNOTATION)
+                .build();
+    }
+
+    /**
+     * Creates the source of a generated class, such as a {@link DirectTestClassSource}.
+     *
+     * @param <T> the type of the generated methods
+     */
+    @FunctionalInterface
+    private interface TestClassSourceFactory<T> {
+        /**
+         * @param testClass      the class, without its test methods
+         * @param testMethods    the test methods declared by the class itself
+         * @param orderedGroup   the {@code @Nested} group of the ordered test methods, without its methods,
+         *                       or {@code null} if the class has none
+         * @param orderedMethods the test methods of the ordered group
+         * @return the source of the class
+         */
+        TestSourceSink.Source create(TypeSpec.Builder testClass, List<T> testMethods,
+                                     TypeSpec.Builder orderedGroup, List<T> orderedMethods);
+    }
+
+    /**
+     * Returns the number of shards a test class is split into: one for the ordered test methods, if any,
+     * plus as many as needed to hold the other test methods, {@code maxMethodsPerClass} at most in each.
+     *
+     * @param testMethodCount    the number of test methods of the class
+     * @param orderedMethodCount the number of those test methods whose case has an execution order
+     * @return the number of shards, {@code 1} if the class is not split
+     */
+    private int shardCount(int testMethodCount, int orderedMethodCount) {
+        if (maxMethodsPerClass == 0 || testMethodCount <= maxMethodsPerClass)
+            return 1;
+        int unorderedMethodCount = testMethodCount - orderedMethodCount;
+        return (orderedMethodCount > 0 ? 1 : 0) + (unorderedMethodCount + maxMethodsPerClass - 1) / maxMethodsPerClass;
+    }
+
+    /**
+     * Returns the simple names of the classes generated for a test class: the test class itself,
+     * or the base class followed by the shards.
+     *
+     * @param classTest  the test definition
+     * @param shardCount the number of shards, see {@link #shardCount(int, int)}
+     * @return the names of the generated classes
+     */
+    private static List<String> classNames(ClassTest classTest, int shardCount) {
+        if (shardCount == 1)
+            return List.of(classTest.name());
+        List<String> classNames = new ArrayList<>(shardCount + 1);
+        classNames.add(baseClassName(classTest));
+        for (int shard = 1; shard <= shardCount; shard++)
+            classNames.add(shardClassName(classTest, shard));
+        return classNames;
+    }
+
+    private static String baseClassName(ClassTest classTest) {
+        return classTest.name() + Constants.SHARD_BASE_CLASS_SUFFIX;
+    }
+
+    private static String shardClassName(ClassTest classTest, int shard) {
+        return shardClassNamePrefix(classTest) + shard + Constants.SHARD_CLASS_SUFFIX;
+    }
+
+    /**
+     * Returns the part of the shard names before their number: the name of the test class without its
+     * {@code Test} suffix, followed by {@code Part} (e.g., {@code ExampleResourceGeneratedPart}).
+     *
+     * @param classTest the test definition
+     * @return the prefix of the shard names
+     */
+    static String shardClassNamePrefix(ClassTest classTest) {
+        String name = classTest.name();
+        if (name.endsWith(Constants.SHARD_CLASS_SUFFIX))
+            name = name.substring(0, name.length() - Constants.SHARD_CLASS_SUFFIX.length());
+        return name + Constants.SHARD_CLASS_INFIX;
+    }
+
+    /**
+     * Checks whether every class generated for a test class is still present from a previous build.
+     *
+     * @param classTest the test definition
+     * @return {@code true} if all the generated sources exist
+     */
+    private boolean allExist(ClassTest classTest) {
+        int testMethodCount = 0;
+        int orderedMethodCount = 0;
+        for (SpecScenariosTest scenario : classTest.scenarios().values())
+            for (CaseTest caseTest : scenario.caseTestList()) {
+                testMethodCount++;
+                if (caseTest.order() > 0)
+                    orderedMethodCount++;
+            }
+        for (String className : classNames(classTest, shardCount(testMethodCount, orderedMethodCount)))
+            if (!sink.exists(classTest, className))
+                return false;
+        return true;
+    }
+
+    /**
+     * Creates the Java file of a test class, with the generated-file comment and the static
+     * imports of the data loading utilities and of the {@code KelariTestSupport} runtime helpers.
+     *
+     * @param classTest the test definition
+     * @param testClass the test class
+     * @return the Java file
+     */
+    private static JavaFile javaFile(ClassTest classTest, TypeSpec testClass) {
+        return JavaFile.builder(classTest.packageName(), testClass)
+                .addFileComment(Constants.GENERATED_FILE_COMMENT)
+                .addStaticImport(Constants.Imports.DATA_LOAD_UTIL, "*")
+                .addStaticImport(Constants.Imports.KELARI_TEST_SUPPORT, "*")
+                .build();
+    }
+
+    /**
+     * Builds the JavaPoet {@link TypeSpec} of the test class without its test methods,
+     * including fields, annotations and helper methods based on configuration, followed by
+     * the constants and request helpers hoisted out of the test methods.
+     * The emitter adds the test methods after all the other members.
+     *
+     * @param classTest the test definition
+     * @param className the simple name of the class
+     * @param members   the constants and helper methods shared by the test methods, which must all be generated
+     * @param base      whether the class is the abstract base class of the shards, whose fields and
+     *                  helper methods are {@code protected} instead of {@code private}
+     * @return the builder of the test class
+     */
+    private TypeSpec.Builder buildTestClass(ClassTest classTest, String className, TestClassMembers members, boolean base) {
+        Modifier memberAccess = base ? Modifier.PROTECTED : Modifier.PRIVATE;
+        FieldSpec webTestClientField = FieldSpec.builder(
+                        Constants.Imports.WEB_TEST_CLIENT,
+                        Constants.WEB_TEST_CLIENT_CLASS_INSTANCE_NAME,
+                        memberAccess)
+                .addAnnotation(Constants.Imports.AUTOWIRED)
+                .build();
+        List<MethodSpec> methods = new ArrayList<>();
+        Predicate<ClassTest> combined = Predicates.SHOULD_GENERATE_AUTH_TOKEN.and(Predicates.IS_REQUIRE_AUTH);
+        if (combined.test(classTest)) {
+            methods.add(ClassGenerationHelper.generateBearerTokenMethod(
+                    classTest.authTest().authUrl(),
+                    classTest.authTest().username(),
+                    classTest.authTest().password(),
+                    memberAccess));
+            methods.add(ClassGenerationHelper.generateLoginMethod(
+                    classTest.authTest().authUrl(),
+                    classTest.authTest().username(),
+                    classTest.authTest().password(),
+                    classTest.authTest().parameterTokenName()));
+        }
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(Constants.Imports.SPRING_BOOT_TEST)
+                        .addMember(Constants.SPRING_BOOT_TEST_CONTEXT_NAME, Constants.SPRING_BOOT_TEST_CONTEXT_FORMAT, Constants.Imports.WEB_ENVIRONMENT)
+                        .build())
+                .addAnnotation(Constants.Imports.AUTO_CONFIGURE_WEB_TEST_CLIENT)
+                .addField(webTestClientField)
+                .addMethods(methods);
+        if (classTest.concurrent())
+            classBuilder.addAnnotation(executionAnnotation("CONCURRENT"));
+        else if (Predicates.HAS_ORDERED_CASES.test(classTest))
+            classBuilder.addAnnotation(testMethodOrderAnnotation());
+        if (Predicates.IS_LOGGING_ENABLED.test(classTest))
+            classBuilder.addAnnotation(AnnotationSpec.builder(Constants.Imports.EXTEND_WITH)
+                    .addMember("value", "$T.class", Constants.Imports.KELARI_LOG_EXTENSION)
+                    .build());
+        classBuilder.addFields(members.fields(memberAccess))
+                .addMethods(members.methods(memberAccess));
+        if (base)
+            classBuilder.addModifiers(Modifier.ABSTRACT);
+        return classBuilder;
+    }
+
+    /**
+     * Generates the test methods of the scenarios and test cases within the provided {@link ClassTest}.
+     *
+     * @param classTest the test metadata
+     * @param members   receives the constants and helper methods shared by the test methods
+     * @param factory   generates the test method of one test case
+     * @param <T>       the type of the generated methods
+     * @return list of test methods to be added to the class
+     */
+    private static <T> List<TestMethod<T>> generateTestMethods(ClassTest classTest, TestClassMembers members, TestMethodFactory<T> factory) {
+        List<TestMethod<T>> testMethods = new ArrayList<>();
+        for (SpecScenariosTest scenario : classTest.scenarios().values()) {
+            String fullPath = (Objects.nonNull(classTest.pathBase()) ? classTest.pathBase() : "")
+                    + scenario.pathMethod();
+            for (CaseTest caseTest : scenario.caseTestList())
+                testMethods.add(new TestMethod<>(factory.create(scenario, caseTest, fullPath, members), caseTest.order() > 0));
+        }
+        return testMethods;
+    }
+
+    /**
+     * A generated test method, and whether its case has an execution order.
+     *
+     * @param <T> the type of the generated method
+     */
+    private record TestMethod<T>(T method, boolean ordered) {}
+
+    /**
+     * Generates the test method of a test case, such as {@link ClassGenerationHelper#generateTestMethod}.
+     *
+     * @param <T> the type of the generated method
+     */
+    @FunctionalInterface
+    private interface TestMethodFactory<T> {
+        T create(SpecScenariosTest scenario, CaseTest caseTest, String fullPath, TestClassMembers members);
+    }
+
+    /**
+     * Streams the generated Java test file into the sink.
+     *
+     * @param source    the source of the Java file to write
+     * @param classTest the test class the file was generated from
+     * @param className the simple name of the written class
+     * @return {@code true} if the file was written, {@code false} if its content was unchanged
+     */
+    private boolean writeTestFile(TestSourceSink.Source source, ClassTest classTest, String className) {
+        try {
+            if (!sink.write(classTest, className, source))
+                return false;
+            defer(Diagnostic.Kind.NOTE, "Test class generated at: " + sink.describe(classTest, className));
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException("Error generating test file for class: " + classTest.name(), e);
+        }
+    }
+
+    /**
+     * Emitter of the test methods. Both emitters produce identical sources.
+     */
+    public enum Emitter {
+        /** Builds the test methods as JavaPoet {@code MethodSpec}s, rendered with the rest of the class. */
+        JAVAPOET,
+        /**
+         * Formats the test methods without JavaPoet and writes them after the class skeleton rendered
+         * by JavaPoet, see {@link DirectTestClassSource}. Requires every registered handler to support it.
+         */
+        DIRECT;
+
+        /**
+         * Resolves an emitter from its case-insensitive option value.
+         *
+         * @param value the option value (e.g., {@code "direct"})
+         * @return the matching emitter
+         * @throws IllegalArgumentException if the value matches no emitter
+         */
+        public static Emitter fromOption(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+}
\ No newline at end of file
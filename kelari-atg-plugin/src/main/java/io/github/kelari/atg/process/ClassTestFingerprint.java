@@ -0,0 +1,196 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.model.*;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Computes a stable fingerprint of a {@link ClassTest} model.
+ *
+ * <p>The fingerprint is a SHA-256 digest over a canonical rendering of every value that
+ * influences the generated source: class metadata, authentication, scenarios, each
+ * {@link CaseTest} and its {@link ParameterMetadataTest}. The generator version and the
+ * options that change the layout of the generated files are part of the digest, so upgrading
+ * Kelari or changing those options regenerates every class.</p>
+ *
+ * <p>The generator version is the {@code Implementation-Version} of the plugin jar. A snapshot, or a plugin
+ * without that manifest entry (built locally or run from a reactor build), is identified by a digest of
+ * its classes and resources instead, so that any change to the generator still regenerates every class.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class ClassTestFingerprint {
+
+    private static final String GENERATOR_VERSION = generatorVersion();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ClassTestFingerprint() {}
+
+    /**
+     * Computes the fingerprint of the given class test model.
+     *
+     * @param classTest          the model to fingerprint
+     * @param maxMethodsPerClass the maximum number of test methods per generated class, see
+     *                           {@link io.github.kelari.atg.util.GeneratorOptions#getMaxMethodsPerClass()}
+     * @return the hexadecimal SHA-256 digest of the model
+     */
+    public static String of(ClassTest classTest, int maxMethodsPerClass) {
+        StringBuilder canonical = new StringBuilder(1024);
+        append(canonical, GENERATOR_VERSION);
+        append(canonical, maxMethodsPerClass);
+        append(canonical, classTest.packageName());
+        append(canonical, classTest.name());
+        append(canonical, classTest.pathBase());
+        append(canonical, classTest.concurrent());
+        AuthTest auth = classTest.authTest();
+        append(canonical, auth != null);
+        if (auth != null) {
+            append(canonical, auth.authUrl());
+            append(canonical, auth.username());
+            append(canonical, auth.password());
+            append(canonical, auth.parameterTokenName());
+        }
+        append(canonical, classTest.scenarios().size());
+        for (SpecScenariosTest scenario : classTest.scenarios().values()) {
+            append(canonical, scenario.methodName());
+            append(canonical, scenario.pathMethod());
+            append(canonical, scenario.httpMethod());
+            append(canonical, scenario.caseTestList().size());
+            for (CaseTest caseTest : scenario.caseTestList())
+                appendCase(canonical, caseTest);
+        }
+        return digest(canonical);
+    }
+
+    private static void appendCase(StringBuilder canonical, CaseTest caseTest) {
+        append(canonical, caseTest.displayName());
+        append(canonical, caseTest.order());
+        append(canonical, caseTest.timeout());
+        append(canonical, caseTest.expectedStatusCode());
+        append(canonical, caseTest.requiresAuth());
+        append(canonical, caseTest.dataProviderClassName());
+        append(canonical, caseTest.dataProviderInstantiable());
+        append(canonical, caseTest.repeat());
+        append(canonical, caseTest.enableLogging());
+        append(canonical, caseTest.responseTimeoutSeconds());
+        append(canonical, caseTest.expectedHeaders().size());
+        for (Header header : caseTest.expectedHeaders()) {
+            append(canonical, header.name());
+            append(canonical, header.values().size());
+            for (String value : header.values())
+                append(canonical, value);
+        }
+        append(canonical, caseTest.expectedCookies().size());
+        for (Cookie cookie : caseTest.expectedCookies()) {
+            append(canonical, cookie.name());
+            append(canonical, cookie.value());
+        }
+        append(canonical, caseTest.jsonPaths().size());
+        for (JsonPath jsonPath : caseTest.jsonPaths()) {
+            append(canonical, jsonPath.path());
+            append(canonical, jsonPath.type());
+            append(canonical, jsonPath.value());
+            append(canonical, jsonPath.matcherClass());
+        }
+        ParameterMetadataTest parameters = caseTest.methodParameters();
+        append(canonical, parameters != null);
+        if (parameters != null) {
+            appendMap(canonical, parameters.pathParams());
+            appendMap(canonical, parameters.queryParams());
+            appendMap(canonical, parameters.headerParams());
+            appendMap(canonical, parameters.cookieParams());
+            append(canonical, parameters.matrixParams().size());
+            for (Map.Entry<String, Map<String, String>> entry : parameters.matrixParams().entrySet()) {
+                append(canonical, entry.getKey());
+                appendMap(canonical, entry.getValue());
+            }
+            appendMap(canonical, parameters.body());
+            append(canonical, parameters.multipart());
+        }
+    }
+
+    private static void appendMap(StringBuilder canonical, Map<String, String> map) {
+        append(canonical, map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            append(canonical, entry.getKey());
+            append(canonical, entry.getValue());
+        }
+    }
+
+    /**
+     * Appends a length-prefixed value, so that adjacent values can never be confused. Lists, maps and
+     * optional values are preceded by their size or presence, so that their elements cannot shift from
+     * one to the next either.
+     */
+    private static void append(StringBuilder canonical, Object value) {
+        String text = String.valueOf(value);
+        canonical.append(text.length()).append(':').append(text).append(';');
+    }
+
+    private static String digest(CharSequence canonical) {
+        return HexFormat.of().formatHex(sha256().digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the version identifying the generator, see the class documentation.
+     *
+     * @return the release version of the plugin, or {@code code:} followed by the digest of its code
+     */
+    static String generatorVersion() {
+        String version = ClassTestFingerprint.class.getPackage().getImplementationVersion();
+        if (version != null && !version.endsWith("-SNAPSHOT"))
+            return version;
+        try {
+            return "code:" + codeDigest(Path.of(ClassTestFingerprint.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // The generator cannot be identified: a version matching no stored fingerprint regenerates every class
+            return "unknown:" + UUID.randomUUID();
+        }
+    }
+
+    /**
+     * Computes the digest of the code of the generator: the content of its jar, or the paths and contents
+     * of the files of its classes directory.
+     *
+     * @param codeSource the jar or classes directory the generator is loaded from
+     * @return the hexadecimal SHA-256 digest of the code
+     * @throws IOException if the code cannot be read
+     */
+    static String codeDigest(Path codeSource) throws IOException {
+        MessageDigest sha256 = sha256();
+        if (Files.isDirectory(codeSource)) {
+            try (Stream<Path> files = Files.walk(codeSource)) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                    byte[] content = Files.readAllBytes(file);
+                    String entry = codeSource.relativize(file).toString().replace('\\', '/');
+                    sha256.update((entry.length() + ":" + entry + content.length + ":").getBytes(StandardCharsets.UTF_8));
+                    sha256.update(content);
+                }
+            }
+        } else
+            sha256.update(Files.readAllBytes(codeSource));
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
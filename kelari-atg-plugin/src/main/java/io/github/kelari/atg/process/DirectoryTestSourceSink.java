@@ -0,0 +1,145 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.model.ClassTest;
+
+import io.github.kelari.atg.util.Constants;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * {@link TestSourceSink} writing the generated sources into a source directory, laid out by package
+ * (e.g., {@code target/generated-test-sources/kelari/com/example/ExampleResourceGeneratedTest.java}).
+ * Used by the compiler plugin. Files are written independently, so the sink is thread-safe.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class DirectoryTestSourceSink implements TestSourceSink {
+
+    private static final String GENERATED_FILE_HEADER = "// " + Constants.GENERATED_FILE_COMMENT;
+
+    private final Path root;
+
+    /**
+     * Creates a sink writing under the given source root.
+     *
+     * @param root the root of the test source tree
+     */
+    public DirectoryTestSourceSink(Path root) {
+        this.root = Objects.requireNonNull(root);
+    }
+
+    /**
+     * Streams the source into a temporary file in the target directory through a buffered UTF-8
+     * writer, then moves it over the previous file, atomically where the file system supports it,
+     * so readers never observe a partially written source. When the previous file already holds
+     * the same bytes, it is left untouched and the temporary file is discarded.
+     *
+     * @param classTest the test class the source was generated from
+     * @param className the simple name of the written class
+     * @param source    the complete Java source
+     * @return {@code true} if the file was written, {@code false} if its content was unchanged
+     * @throws IOException if the source cannot be written
+     */
+    @Override
+    public boolean write(ClassTest classTest, String className, Source source) throws IOException {
+        Path outputPath = resolve(classTest, className);
+        Files.createDirectories(outputPath.getParent());
+        // Not Files.createTempFile: its owner-only permissions would be moved over to the source
+        Path tempFile = outputPath.resolveSibling("." + outputPath.getFileName() + "."
+                + ProcessHandle.current().pid() + "-" + Thread.currentThread().getId() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                source.writeTo(writer);
+            }
+            if (Files.isRegularFile(outputPath) && Files.mismatch(tempFile, outputPath) == -1L)
+                return false;
+            try {
+                Files.move(tempFile, outputPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, outputPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return true;
+    }
+
+    @Override
+    public String describe(ClassTest classTest, String className) {
+        return resolve(classTest, className).toString();
+    }
+
+    @Override
+    public boolean exists(ClassTest classTest, String className) {
+        return Files.isRegularFile(resolve(classTest, className));
+    }
+
+    /**
+     * Deletes the files of the package directory named after the test class, its shards or their base
+     * class (e.g., {@code ExampleResourceGeneratedPart3Test.java}) that are not in {@code classNames}, as well
+     * as shards named by earlier versions (e.g., {@code ExampleResourceGeneratedTest_3.java}).
+     * Only files starting with the generated-file comment are deleted, never hand-written sources.
+     *
+     * @param classTest  the test class
+     * @param classNames the simple names of the classes generated by this build
+     * @throws IOException if the package directory cannot be listed or a stale file cannot be deleted
+     */
+    @Override
+    public void deleteStale(ClassTest classTest, Set<String> classNames) throws IOException {
+        Path packageDir = resolve(classTest, classTest.name()).getParent();
+        if (!Files.isDirectory(packageDir))
+            return;
+        Pattern generatedName = Pattern.compile(Pattern.quote(classTest.name()) + "(" + Constants.SHARD_BASE_CLASS_SUFFIX
+                + "|_\\d+)?\\.java|" + Pattern.quote(ClassGeneration.shardClassNamePrefix(classTest)) + "\\d+"
+                + Pattern.quote(Constants.SHARD_CLASS_SUFFIX) + "\\.java");
+        List<Path> staleFiles = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(packageDir)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (generatedName.matcher(fileName).matches()
+                        && !classNames.contains(fileName.substring(0, fileName.length() - ".java".length()))
+                        && isGenerated(file))
+                    staleFiles.add(file);
+            }
+        }
+        for (Path staleFile : staleFiles)
+            Files.deleteIfExists(staleFile);
+    }
+
+    private static boolean isGenerated(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return GENERATED_FILE_HEADER.equals(reader.readLine());
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Resolves the file of a generated class under the source root.
+     *
+     * @param classTest the test class the class is generated from
+     * @param className the simple name of the generated class
+     * @return the path of its source file
+     */
+    private Path resolve(ClassTest classTest, String className) {
+        return root.resolve(classTest.packageName().replace('.', '/')).resolve(className + ".java");
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.process.helper.ApiTestCaseDecoder;
+import io.github.kelari.atg.process.helper.KelariTreeScannerHelper;
+import io.github.kelari.atg.util.CompilerLogger;
+
+import javax.lang.model.element.TypeElement;
+import java.util.Objects;
+
+/**
+ * Holds everything the metadata extraction needs for one compilation: the {@link AnnotationIndex},
+ * the {@link CompilerLogger} reporting on that compilation and the lazily built {@link ApiTestCaseDecoder}.
+ *
+ * <p>The context is passed explicitly to {@link KelariTreeScannerHelper}, which keeps no state
+ * of its own. Several compilations running concurrently in the same JVM (e.g., a Gradle daemon or
+ * {@code mvn -T}) therefore never share a logger or a resolved element. A context is confined to
+ * the compiler thread of its compilation and is not thread-safe.</p>
+ *
+ * <p>The context only relies on the {@code javax.lang.model} API, so it serves both the compiler plugin
+ * and the annotation processor, whose processing environment may be wrapped by the build tool.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class ExtractionContext {
+
+    private final AnnotationIndex annotationIndex;
+    private final CompilerLogger logger;
+    private ApiTestCaseDecoder apiTestCaseDecoder;
+
+    /**
+     * Creates the extraction context of a compilation.
+     *
+     * @param annotationIndex the annotation index of the compilation
+     * @param logger          the logger reporting diagnostics on the compilation
+     */
+    public ExtractionContext(AnnotationIndex annotationIndex, CompilerLogger logger) {
+        this.annotationIndex = Objects.requireNonNull(annotationIndex);
+        this.logger = Objects.requireNonNull(logger);
+    }
+
+    public AnnotationIndex getAnnotationIndex() {
+        return annotationIndex;
+    }
+
+    public CompilerLogger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Returns the {@link ApiTestCaseDecoder} of this compilation, building it on first use.
+     *
+     * @param annotationType the {@code ApiTestCase} type element of a scenario mirror
+     * @return the decoder bound to the annotation type
+     */
+    public ApiTestCaseDecoder getApiTestCaseDecoder(TypeElement annotationType) {
+        if (apiTestCaseDecoder == null || !apiTestCaseDecoder.isBoundTo(annotationType))
+            apiTestCaseDecoder = ApiTestCaseDecoder.of(annotationType, logger);
+        return apiTestCaseDecoder;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.kelari.atg.process;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Persisted map of generated test class names to the fingerprint of the model they were
+ * generated from. It allows {@link ClassGeneration} to skip classes whose model did not change
+ * since the previous build, leaving their files (and modification times) untouched.
+ *
+ * <p>The manifest is a properties file stored under the build directory, loaded lazily on first
+ * access and saved only when it changed. Lookups and updates are thread-safe, so the manifest can be
+ * shared by the generation worker pool.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ * @see ClassTestFingerprint
+ */
+public final class FingerprintManifest {
+
+    private static final String MANIFEST_FILE = "kelari/fingerprints.properties";
+
+    private final Path manifestPath;
+    private Properties fingerprints;
+    private boolean dirty;
+
+    /**
+     * Creates a manifest stored under the given build directory.
+     *
+     * @param buildDir the build directory (e.g., {@code target})
+     */
+    public FingerprintManifest(Path buildDir) {
+        this.manifestPath = buildDir.resolve(MANIFEST_FILE);
+    }
+
+    /**
+     * Checks whether the class was last generated from a model with the same fingerprint.
+     *
+     * @param qualifiedName the fully qualified name of the generated class
+     * @param fingerprint   the fingerprint of the current model
+     * @return {@code true} if the recorded fingerprint matches
+     */
+    public synchronized boolean isUpToDate(String qualifiedName, String fingerprint) {
+        return fingerprint.equals(load().getProperty(qualifiedName));
+    }
+
+    /**
+     * Records the fingerprint of a freshly generated class.
+     *
+     * @param qualifiedName the fully qualified name of the generated class
+     * @param fingerprint   the fingerprint of the model it was generated from
+     */
+    public synchronized void update(String qualifiedName, String fingerprint) {
+        Object previous = load().setProperty(qualifiedName, fingerprint);
+        dirty |= !Objects.equals(previous, fingerprint);
+    }
+
+    /**
+     * Writes the manifest to disk if any fingerprint changed.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    public synchronized void save() throws IOException {
+        if (!dirty)
+            return;
+        Files.createDirectories(manifestPath.getParent());
+        try (Writer writer = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8)) {
+            fingerprints.store(writer, "Kelari - API Test Generator fingerprints");
+        }
+        dirty = false;
+    }
+
+    /**
+     * Returns the location of the manifest file.
+     *
+     * @return the manifest path
+     */
+    public Path getManifestPath() {
+        return manifestPath;
+    }
+
+    private Properties load() {
+        if (fingerprints == null) {
+            fingerprints = new Properties();
+            if (Files.isRegularFile(manifestPath)) {
+                try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+                    fingerprints.load(reader);
+                } catch (IOException | IllegalArgumentException e) {
+                    // A corrupt manifest only costs a full regeneration
+                    fingerprints.clear();
+                }
+            }
+        }
+        return fingerprints;
+    }
+}
@@ -0,0 +1,257 @@
+package io.github.kelari.atg.process;
+
+import com.sun.source.tree.*;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+import io.github.kelari.atg.annotation.ApiTestSpec;
+import io.github.kelari.atg.annotation.KelariGenerateApiTest;
+import io.github.kelari.atg.model.*;
+import io.github.kelari.atg.process.helper.KelariTreeScannerHelper;
+import io.github.kelari.atg.util.*;
+
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * {@code KelariTreeScanner} is a custom implementation of {@link TreePathScanner} that traverses 
+ * the Java Abstract Syntax Tree (AST) to locate classes and methods annotated with
+ * {@link KelariGenerateApiTest} and {@link ApiTestSpec}.
+ *
+ * <p>It extracts metadata from these annotations to build a list of {@link ClassTest}
+ * objects containing test specifications based on the scanned code structure.
+ *
+ * <p>This class is primarily used to automate the generation of API test cases from annotated source code.
+ *
+ * <p>Everything the generator needs lives in class declarations and member signatures, so by default
+ * ({@link ScanMode#DECLARATIONS}) the scanner only descends into nested types and never walks method
+ * bodies, statements, expressions or lambdas. {@link ScanMode#FULL} restores the complete traversal.
+ * The path of each member is built from the path of its class rather than looked up from the root of
+ * the compilation unit, which would walk the bodies of the preceding members again. Scans start from
+ * the {@link TreePath} of a class (see {@link #scan(TreePath, Object)}). The number of visited nodes,
+ * including those the member paths are built for, is tracked to make the traversal cost observable.
+ *
+ * <p>A scanner belongs to a single compilation: it owns the {@link ExtractionContext} handed to the
+ * stateless {@link KelariTreeScannerHelper}, with itself as the logger of that compilation.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved
+ *
+ */
+public class KelariTreeScanner extends TreePathScanner<Void, Void> implements CompilerLogger {
+
+    private final Trees trees;
+    private final ScanMode scanMode;
+    private final AnnotationIndex annotationIndex;
+    private final ExtractionContext context;
+    private long visitedNodeCount;
+    private CompilationUnitTree compilationUnitTree;
+    private List<ClassTest> classTestList;
+    private CompilerLogger compilerLogger;
+    private final KelariTreeScannerHelper kelariTreeScannerHelper;
+
+    public void setCompilerLogger(CompilerLogger logger) {
+        this.compilerLogger = logger;
+    }
+    public void log(Diagnostic.Kind kind, String message) {
+        if (Objects.nonNull(compilerLogger))
+            compilerLogger.log(kind, message);
+    }
+
+    /**
+     * Constructs a {@code KelariTreeScanner} with the provided {@link Trees} instance,
+     * scanning declarations only.
+     *
+     * @param trees           the {@code Trees} utility used to obtain information about the AST
+     * @param annotationIndex the annotation index of the current compilation
+     */
+    public KelariTreeScanner(Trees trees, AnnotationIndex annotationIndex) {
+        this(trees, annotationIndex, ScanMode.DECLARATIONS);
+    }
+
+    /**
+     * Constructs a {@code KelariTreeScanner} with the provided {@link Trees} instance and traversal mode.
+     *
+     * @param trees           the {@code Trees} utility used to obtain information about the AST
+     * @param annotationIndex the annotation index of the current compilation
+     * @param scanMode        how deep the scanner descends into the classes it visits
+     */
+    public KelariTreeScanner(Trees trees, AnnotationIndex annotationIndex, ScanMode scanMode) {
+        this.trees = trees;
+        this.annotationIndex = annotationIndex;
+        this.scanMode = scanMode;
+        this.context = new ExtractionContext(annotationIndex, this);
+        this.kelariTreeScannerHelper = KelariTreeScannerHelper.getInstance();
+    }
+
+    /**
+     * Visits class declarations in the source code and processes them if they are annotated
+     * with {@link KelariGenerateApiTest}. For each annotated method, it extracts the associated
+     * annotations and builds test scenario definitions.
+     *
+     * @param node   the class node to visit
+     * @param unused additional parameter not used in this context
+     * @return always returns {@code null}
+     */
+    @Override
+    public Void visitClass(ClassTree node, Void unused) {
+        TreePath classPath = getCurrentPath();
+        Element element = trees.getElement(classPath);
+        String className = node.getSimpleName().toString();
+        String packageName = PackageUtils.sanitizePackageName(getCompilationUnitTree().getPackageName().toString());
+        if (Objects.nonNull(annotationIndex.findKelariGenerateApiTest(element))) {
+            log(Diagnostic.Kind.NOTE, "Captured package: " + packageName);
+            log(Diagnostic.Kind.NOTE, "Checking class annotation: " + node.getSimpleName().toString());
+            ClassTest.Builder classTest = kelariTreeScannerHelper.createClassTest(className, packageName, element, context);
+            for (Tree member : node.getMembers()) {
+                if (member instanceof MethodTree) {
+                    MethodTree method = (MethodTree) member;
+                    if (method.getName().contentEquals("<init>"))
+                        continue;
+                    Element methodElement = trees.getElement(memberPath(classPath, method));
+                    classTest.scenario(kelariTreeScannerHelper.extractSpecScenariosTest(methodElement, context));
+                }
+            }
+            classTestList.add(classTest.build());
+        }
+        if (scanMode == ScanMode.FULL)
+            return super.visitClass(node, unused);
+        // Only nested types may declare further test classes
+        for (Tree member : node.getMembers())
+            if (member instanceof ClassTree)
+                scan(member, unused);
+        return null;
+    }
+
+    /**
+     * Counts the node a scan starts from before delegating to the regular traversal.
+     *
+     * @param path   the path of the node to scan
+     * @param unused additional parameter not used in this context
+     * @return always returns {@code null}
+     */
+    @Override
+    public Void scan(TreePath path, Void unused) {
+        visitedNodeCount++;
+        return super.scan(path, unused);
+    }
+
+    /**
+     * Counts every visited node before delegating to the regular traversal.
+     *
+     * @param tree   the node to scan, may be {@code null}
+     * @param unused additional parameter not used in this context
+     * @return always returns {@code null}
+     */
+    @Override
+    public Void scan(Tree tree, Void unused) {
+        if (Objects.nonNull(tree))
+            visitedNodeCount++;
+        return super.scan(tree, unused);
+    }
+
+    /**
+     * Returns the path of a member of the class at {@code classPath}, counting the member as visited.
+     *
+     * @param classPath the path of the enclosing class
+     * @param member    the member of that class
+     * @return the path of the member
+     */
+    private TreePath memberPath(TreePath classPath, Tree member) {
+        visitedNodeCount++;
+        return new TreePath(classPath, member);
+    }
+
+    /**
+     * Returns how many syntax tree nodes this scanner has visited so far.
+     *
+     * @return the visited node counter
+     */
+    public long getVisitedNodeCount() {
+        return visitedNodeCount;
+    }
+
+    /**
+     * Returns the annotation index used to classify annotation mirrors.
+     *
+     * @return the annotation index of the current compilation
+     */
+    public AnnotationIndex getAnnotationIndex() {
+        return annotationIndex;
+    }
+
+    /**
+     * Returns the traversal mode of this scanner.
+     *
+     * @return the scan mode
+     */
+    public ScanMode getScanMode() {
+        return scanMode;
+    }
+
+    /**
+     * Returns the current {@link CompilationUnitTree} being scanned.
+     *
+     * @return the compilation unit tree
+     */
+    public CompilationUnitTree getCompilationUnitTree() {
+        return compilationUnitTree;
+    }
+    /**
+     * Sets the {@link CompilationUnitTree} for this scanner.
+     *
+     * @param compilationUnitTree the compilation unit tree to set
+     */
+    public void setCompilationUnitTree(CompilationUnitTree compilationUnitTree) {
+        if (Objects.isNull(compilationUnitTree)) {
+            log(Diagnostic.Kind.ERROR, "CompilationUnitTree is not initialized.");
+            throw new IllegalStateException("CompilationUnitTree is not initialized.");
+        }
+        this.compilationUnitTree = compilationUnitTree;
+    }
+
+    /**
+     * Returns the list of {@link ClassTest} instances collected during scanning.
+     *
+     * @return the list of class tests
+     */
+    public List<ClassTest> getClassTestList() {
+        return classTestList;
+    }
+    /**
+     * Sets the list of {@link ClassTest} instances. If the provided list is {@code null}, an empty list is initialized.
+     *
+     * @param classTestList the class test list to set
+     */
+    public void setClassTestList(List<ClassTest> classTestList) {
+        if (Objects.isNull(classTestList))
+            this.classTestList = new ArrayList<>(0);
+        this.classTestList = classTestList;
+    }
+
+    /**
+     * Defines how deep the scanner descends into the classes it visits.
+     */
+    public enum ScanMode {
+        /** Visits class declarations, their member signatures and nested types only. */
+        DECLARATIONS,
+        /** Visits the complete tree, including method bodies. */
+        FULL;
+
+        /**
+         * Resolves a mode from its case-insensitive option value.
+         *
+         * @param value the option value (e.g., {@code "declarations"})
+         * @return the matching scan mode
+         * @throws IllegalArgumentException if the value matches no mode
+         */
+        public static ScanMode fromOption(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+}
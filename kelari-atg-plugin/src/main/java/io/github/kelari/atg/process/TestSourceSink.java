@@ -0,0 +1,82 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.model.ClassTest;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Destination of the test sources produced by {@link ClassGeneration}.
+ *
+ * <p>The compiler plugin writes straight into a source directory ({@link DirectoryTestSourceSink}),
+ * while the annotation processor hands the sources to the {@code Filer}, so that the build tool can
+ * track each file back to the controller it was generated from.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public interface TestSourceSink {
+
+    /**
+     * Writes the source of a generated test class. The source is streamed straight into the
+     * destination, never materialized as a whole. Sinks may leave an existing file untouched
+     * when its content is already identical.
+     *
+     * @param classTest the test class the source was generated from
+     * @param className the simple name of the written class: the name of the test class, or of
+     *                  one of its shards or their base class, in the package of the test class
+     * @param source    the complete Java source
+     * @return {@code true} if the file was written, {@code false} if it was already up to date
+     * @throws IOException if the source cannot be written
+     */
+    boolean write(ClassTest classTest, String className, Source source) throws IOException;
+
+    /**
+     * Describes where the source of a generated class is written, for compiler notes.
+     *
+     * @param classTest the test class the source is generated from
+     * @param className the simple name of the written class
+     * @return the location of its source
+     */
+    String describe(ClassTest classTest, String className);
+
+    /**
+     * Checks whether the source of a generated class is still present from a previous build.
+     * Sinks that cannot tell always answer {@code false}, so the class is regenerated.
+     *
+     * @param classTest the test class the source is generated from
+     * @param className the simple name of the written class
+     * @return {@code true} if the generated source exists
+     */
+    default boolean exists(ClassTest classTest, String className) {
+        return false;
+    }
+
+    /**
+     * Deletes the sources a previous build generated for the test class under other names, such as
+     * the shards left over when a class is split into fewer shards. Sinks whose output is cleaned by
+     * the build tool do nothing.
+     *
+     * @param classTest  the test class
+     * @param classNames the simple names of the classes generated by this build
+     * @throws IOException if a stale source cannot be deleted
+     */
+    default void deleteStale(ClassTest classTest, Set<String> classNames) throws IOException {
+    }
+
+    /**
+     * A Java source emitted on demand, such as {@code JavaFile::writeTo}.
+     */
+    @FunctionalInterface
+    interface Source {
+
+        /**
+         * Emits the complete source.
+         *
+         * @param out the destination of the characters
+         * @throws IOException if the destination cannot be written
+         */
+        void writeTo(Appendable out) throws IOException;
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.kelari.atg.process.emitter;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import io.github.kelari.atg.process.TestSourceSink;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Source of a test class generated by the direct emitter: the class skeleton (annotations, fields
+ * and helper methods) is rendered by JavaPoet, and the test methods are written by a {@link SourceWriter}
+ * straight after it, so JavaPoet never formats nor lays out the test methods, which make up most of the file.
+ *
+ * <p>The imports are shared with the skeleton: the types used by the test methods are added to the
+ * skeleton as statements of a placeholder method, in the order the test methods use them. JavaPoet thus
+ * resolves the imports of the whole file with its own rules, and writes each type under the name the
+ * test methods must use. The placeholder method is the last member of the skeleton, right where the test
+ * methods go; it is cut from the rendered skeleton and its statements give the resolved names.
+ * The {@code @Nested} group of the ordered test methods, if any, is rendered as the last member of the skeleton
+ * with an empty placeholder method, where its test methods are written.
+ * The result is identical to the source of the JavaPoet emitter.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class DirectTestClassSource implements TestSourceSink.Source {
+
+    private static final String IMPORTS_METHOD_NAME = "kelari$imports";
+    private static final String IMPORTS_METHOD_HEADER = "  void " + IMPORTS_METHOD_NAME + "() {\n";
+    private static final String ORDERED_METHOD_NAME = "kelari$ordered";
+    private static final String ORDERED_METHOD_HEADER = "    void " + ORDERED_METHOD_NAME + "() {\n";
+
+    private final TypeSpec skeleton;
+    private final Function<TypeSpec, JavaFile> javaFileFactory;
+    private final List<DirectTestMethodWriter> testMethods;
+    private final TypeSpec orderedGroup;
+    private final List<DirectTestMethodWriter> orderedMethods;
+
+    /**
+     * Creates the source of a test class.
+     *
+     * @param skeleton        the test class without its test methods
+     * @param javaFileFactory creates the Java file of a class, with its package, comments and static imports
+     * @param testMethods     the test methods, appended after the members of the skeleton
+     * @param orderedGroup    the {@code @Nested} group of the ordered test methods, without its methods,
+     *                        or {@code null} if the class has none
+     * @param orderedMethods  the test methods of the ordered group
+     */
+    public DirectTestClassSource(TypeSpec skeleton,
+                                 Function<TypeSpec, JavaFile> javaFileFactory,
+                                 List<DirectTestMethodWriter> testMethods,
+                                 TypeSpec orderedGroup,
+                                 List<DirectTestMethodWriter> orderedMethods) {
+        this.skeleton = skeleton;
+        this.javaFileFactory = javaFileFactory;
+        this.testMethods = testMethods;
+        this.orderedGroup = orderedGroup;
+        this.orderedMethods = orderedMethods;
+    }
+
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        if (testMethods.isEmpty() && Objects.isNull(orderedGroup)) {
+            javaFileFactory.apply(skeleton).writeTo(out);
+            return;
+        }
+        Set<ClassName> types = new LinkedHashSet<>();
+        for (DirectTestMethodWriter testMethod : testMethods)
+            testMethod.collectTypes(types);
+        for (DirectTestMethodWriter testMethod : orderedMethods)
+            testMethod.collectTypes(types);
+        MethodSpec.Builder importsMethod = MethodSpec.methodBuilder(IMPORTS_METHOD_NAME);
+        for (ClassName type : types)
+            importsMethod.addStatement("$T", type);
+        TypeSpec.Builder skeletonWithPlaceholders = skeleton.toBuilder().addMethod(importsMethod.build());
+        if (Objects.nonNull(orderedGroup))
+            skeletonWithPlaceholders.addType(orderedGroup.toBuilder()
+                    .addMethod(MethodSpec.methodBuilder(ORDERED_METHOD_NAME).build())
+                    .build());
+        // Only the skeleton is materialized, the test methods are streamed
+        String skeletonSource = javaFileFactory.apply(skeletonWithPlaceholders.build()).toString();
+
+        int importsMethodStart = skeletonSource.lastIndexOf(IMPORTS_METHOD_HEADER);
+        if (importsMethodStart == -1)
+            throw new IllegalStateException("Placeholder method not found in the skeleton of " + skeleton.name);
+        Map<ClassName, String> typeNames = new HashMap<>();
+        int statementStart = importsMethodStart + IMPORTS_METHOD_HEADER.length();
+        for (ClassName type : types) {
+            int statementEnd = skeletonSource.indexOf(";\n", statementStart);
+            typeNames.put(type, skeletonSource.substring(statementStart, statementEnd).trim());
+            statementStart = statementEnd + 2;
+        }
+
+        out.append(skeletonSource, 0, importsMethodStart);
+        SourceWriter writer = new SourceWriter(out, typeNames, 1);
+        writeMethods(writer, testMethods);
+        if (Objects.nonNull(orderedGroup)) {
+            // The group header, between the end of the imports placeholder and its own placeholder
+            int orderedMethodStart = skeletonSource.lastIndexOf(ORDERED_METHOD_HEADER);
+            if (orderedMethodStart == -1)
+                throw new IllegalStateException("Placeholder method not found in the ordered group of " + skeleton.name);
+            if (!testMethods.isEmpty())
+                writer.emit("\n");
+            // Skips the closing brace of the imports placeholder and the blank line after it
+            out.append(skeletonSource, skeletonSource.indexOf("  }\n", statementStart) + 5, orderedMethodStart);
+            writer.indent();
+            writeMethods(writer, orderedMethods);
+            writer.unindent();
+            writer.emit("}\n");
+        }
+        writer.unindent();
+        writer.emit("}\n");
+    }
+
+    private static void writeMethods(SourceWriter writer, List<DirectTestMethodWriter> methods) throws IOException {
+        for (int i = 0; i < methods.size(); i++) {
+            if (i > 0)
+                writer.emit("\n");
+            methods.get(i).writeTo(writer);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.kelari.atg.process.emitter;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import io.github.kelari.atg.process.handler.TestMethodWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link TestMethodWriter} of the direct emitter. It formats the annotations and statements of a
+ * public {@code void} test method as they are added, without building any JavaPoet {@code CodeBlock},
+ * and keeps the result as compiled parts: literal text, types and {@link SourceWriter.Marker}s.
+ *
+ * <p>Types are kept apart because the name they are written under depends on the imports of the
+ * whole file, which are only known once every method is compiled (see {@link DirectTestClassSource}).
+ * Strings and literals are formatted right away, as JavaPoet would: {@code $S} arguments become
+ * escaped string literals and {@code $L} arguments are written with {@code String.valueOf}.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class DirectTestMethodWriter implements TestMethodWriter {
+
+    private static final String INDENT = "  ";
+
+    private final String name;
+    private final List<Object> annotations = new ArrayList<>();
+    private final List<Object> body = new ArrayList<>();
+
+    /**
+     * Creates the writer of a test method.
+     *
+     * @param name the name of the test method
+     */
+    public DirectTestMethodWriter(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void addAnnotation(ClassName type) {
+        annotations.add("@");
+        annotations.add(type);
+        annotations.add("\n");
+    }
+
+    @Override
+    public void addAnnotation(ClassName type, String format, Object value) {
+        annotations.add("@");
+        annotations.add(type);
+        annotations.add("(");
+        // JavaPoet indents a single annotation value twice
+        annotations.add(SourceWriter.Marker.INDENT);
+        annotations.add(SourceWriter.Marker.INDENT);
+        compile(annotations, format, value);
+        annotations.add(SourceWriter.Marker.UNINDENT);
+        annotations.add(SourceWriter.Marker.UNINDENT);
+        annotations.add(")\n");
+    }
+
+    @Override
+    public void addStatement(String format, Object... args) {
+        body.add(SourceWriter.Marker.STATEMENT_BEGIN);
+        compile(body, format, args);
+        body.add(SourceWriter.Marker.STATEMENT_END);
+    }
+
+    /**
+     * Adds the types used by this method to the given collection, in the order they are written.
+     *
+     * @param types the collection receiving the types
+     */
+    void collectTypes(Collection<ClassName> types) {
+        collectTypes(annotations, types);
+        collectTypes(body, types);
+    }
+
+    private static void collectTypes(List<Object> parts, Collection<ClassName> types) {
+        for (Object part : parts)
+            if (part instanceof ClassName type)
+                types.add(type);
+    }
+
+    /**
+     * Writes the test method.
+     *
+     * @param writer the writer, positioned at the start of a line inside the class body
+     * @throws IOException if the source cannot be written
+     */
+    void writeTo(SourceWriter writer) throws IOException {
+        writer.write(annotations);
+        writer.emit("public void " + name + "() {\n");
+        writer.indent();
+        writer.write(body);
+        writer.unindent();
+        writer.emit("}\n");
+    }
+
+    /**
+     * Compiles a format into parts, merging adjacent literal text.
+     *
+     * @param parts  the parts receiving the compiled format
+     * @param format the format, using relative {@code $L}, {@code $S}, {@code $T} and {@code $$} placeholders
+     * @param args   the arguments of the format
+     * @throws IllegalArgumentException if the format uses another placeholder or does not match the arguments
+     */
+    private static void compile(List<Object> parts, String format, Object... args) {
+        StringBuilder text = new StringBuilder(format.length() + 16);
+        int argIndex = 0;
+        int start = 0;
+        int placeholder;
+        while ((placeholder = format.indexOf('$', start)) != -1) {
+            text.append(format, start, placeholder);
+            if (placeholder + 1 == format.length())
+                throw new IllegalArgumentException("dangling $ at end of '" + format + "'");
+            char kind = format.charAt(placeholder + 1);
+            start = placeholder + 2;
+            if (kind == '$') {
+                text.append('$');
+                continue;
+            }
+            if (kind != 'L' && kind != 'S' && kind != 'T')
+                throw new IllegalArgumentException("$" + kind + " is not supported by the direct emitter in '" + format + "'");
+            if (argIndex == args.length)
+                throw new IllegalArgumentException("index " + (argIndex + 1) + " for '" + format
+                        + "' not in range (received " + args.length + " arguments)");
+            Object arg = args[argIndex++];
+            switch (kind) {
+                case 'L' -> text.append(literal(arg));
+                case 'S' -> text.append(arg != null ? stringLiteral(String.valueOf(arg)) : "null");
+                default -> appendType(parts, text, type(arg));
+            }
+        }
+        text.append(format, start, format.length());
+        if (argIndex != args.length)
+            throw new IllegalArgumentException("unused arguments: expected " + argIndex + ", received " + args.length);
+        if (!text.isEmpty())
+            parts.add(text.toString());
+    }
+
+    private static String literal(Object arg) {
+        if (arg instanceof CodeBlock || arg instanceof TypeSpec || arg instanceof AnnotationSpec)
+            throw new IllegalArgumentException("$L arguments of type " + arg.getClass().getSimpleName()
+                    + " are not supported by the direct emitter");
+        return String.valueOf(arg);
+    }
+
+    private static TypeName type(Object arg) {
+        if (arg instanceof TypeName typeName)
+            return typeName;
+        if (arg instanceof Type type)
+            return TypeName.get(type);
+        throw new IllegalArgumentException("expected type but was " + arg);
+    }
+
+    /**
+     * Appends a type: class names become a separate part, whose name is resolved once the imports
+     * of the file are known, while primitive and array types are written as they are.
+     */
+    private static void appendType(List<Object> parts, StringBuilder text, TypeName type) {
+        if (type.isAnnotated())
+            throw new IllegalArgumentException("annotated types are not supported by the direct emitter: " + type);
+        if (type instanceof ClassName className) {
+            if (!text.isEmpty()) {
+                parts.add(text.toString());
+                text.setLength(0);
+            }
+            parts.add(className);
+        } else if (type instanceof ArrayTypeName arrayType) {
+            appendType(parts, text, arrayType.componentType);
+            text.append("[]");
+        } else if (type.isPrimitive() || type.equals(TypeName.VOID)) {
+            text.append(type);
+        } else {
+            throw new IllegalArgumentException("$T arguments of type " + type.getClass().getSimpleName()
+                    + " are not supported by the direct emitter");
+        }
+    }
+
+    /**
+     * Writes a string literal exactly as JavaPoet's {@code $S} does, including the concatenation
+     * it uses to keep every line of a multi-line string on its own source line.
+     */
+    private static String stringLiteral(String value) {
+        StringBuilder result = new StringBuilder(value.length() + 2);
+        result.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\'' -> result.append('\'');
+                case '"' -> result.append("\\\"");
+                case '\b' -> result.append("\\b");
+                case '\t' -> result.append("\\t");
+                case '\n' -> result.append("\\n");
+                case '\f' -> result.append("\\f");
+                case '\r' -> result.append("\\r");
+                case '\\' -> result.append("\\\\");
+                default -> {
+                    if (Character.isISOControl(c))
+                        result.append(String.format("\\u%04x", (int) c));
+                    else
+                        result.append(c);
+                }
+            }
+            if (c == '\n' && i + 1 < value.length())
+                result.append("\"\n").append(INDENT).append(INDENT).append("+ \"");
+        }
+        result.append('"');
+        return result.toString();
+    }
+}
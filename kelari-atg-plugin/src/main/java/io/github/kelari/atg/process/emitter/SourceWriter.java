@@ -0,0 +1,143 @@
+package io.github.kelari.atg.process.emitter;
+
+import com.squareup.javapoet.ClassName;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indentation-aware writer of the direct emitter. It follows the layout rules of JavaPoet's
+ * {@code CodeWriter}, so that the sources it writes are identical to the ones of the JavaPoet emitter:
+ * two-space indentation, and continuation lines of a statement indented twice more than its first line.
+ *
+ * <p>It writes the parts compiled by {@link DirectTestMethodWriter}: literal text, types, which are
+ * written under the names resolved for the file, and {@link Marker}s.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+final class SourceWriter {
+
+    private static final String INDENT = "  ";
+
+    private final Appendable out;
+    private final Map<ClassName, String> typeNames;
+    private int indentLevel;
+    private int statementLine = -1;
+    private boolean trailingNewline = true;
+
+    /**
+     * Creates a writer positioned at the start of a line.
+     *
+     * @param out         the destination of the source
+     * @param typeNames   the name each type is written under
+     * @param indentLevel the initial indentation level
+     */
+    SourceWriter(Appendable out, Map<ClassName, String> typeNames, int indentLevel) {
+        this.out = out;
+        this.typeNames = typeNames;
+        this.indentLevel = indentLevel;
+    }
+
+    /**
+     * Layout instructions interleaved with the text of the compiled parts.
+     */
+    enum Marker {
+        /** Starts a statement: its continuation lines are indented twice. */
+        STATEMENT_BEGIN,
+        /** Ends a statement with a semicolon and a line break. */
+        STATEMENT_END,
+        /** Increases the indentation level. */
+        INDENT,
+        /** Decreases the indentation level. */
+        UNINDENT
+    }
+
+    /**
+     * Writes compiled parts.
+     *
+     * @param parts the literal text, types and markers to write
+     * @throws IOException if the destination cannot be written
+     */
+    void write(List<Object> parts) throws IOException {
+        for (Object part : parts) {
+            if (part instanceof String text)
+                emit(text);
+            else if (part instanceof ClassName type)
+                emit(typeNames.get(type));
+            else
+                apply((Marker) part);
+        }
+    }
+
+    private void apply(Marker marker) throws IOException {
+        switch (marker) {
+            case STATEMENT_BEGIN -> statementLine = 0;
+            case STATEMENT_END -> {
+                emit(";\n");
+                if (statementLine > 0)
+                    indentLevel -= 2;
+                statementLine = -1;
+            }
+            case INDENT -> indent();
+            case UNINDENT -> unindent();
+        }
+    }
+
+    /**
+     * Increases the indentation level.
+     */
+    void indent() {
+        indentLevel++;
+    }
+
+    /**
+     * Decreases the indentation level.
+     */
+    void unindent() {
+        indentLevel--;
+    }
+
+    /**
+     * Writes text, indenting every line that it starts. Line breaks are the ones of the {@code \R}
+     * pattern used by JavaPoet and are written as {@code \n}.
+     *
+     * @param text the text to write
+     * @throws IOException if the destination cannot be written
+     */
+    void emit(String text) throws IOException {
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : '\n';
+            if (i < length && !isLineBreak(c))
+                continue;
+            if (i > start) {
+                if (trailingNewline) {
+                    for (int level = 0; level < indentLevel; level++)
+                        out.append(INDENT);
+                }
+                out.append(text, start, i);
+                trailingNewline = false;
+            }
+            if (i == length)
+                return;
+            if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n')
+                i++;
+            out.append('\n');
+            trailingNewline = true;
+            if (statementLine != -1) {
+                if (statementLine == 0)
+                    indentLevel += 2;
+                statementLine++;
+            }
+            start = i + 1;
+        }
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\u000B' || c == '\f' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
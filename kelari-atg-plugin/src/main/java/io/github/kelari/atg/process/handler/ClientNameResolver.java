@@ -0,0 +1,78 @@
+package io.github.kelari.atg.process.handler;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.util.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A utility class responsible for resolving the client used by a generated test method, based on the configuration
+ * of its {@link CaseTest}.
+ * <p>Test cases without logging nor response timeout use the autowired {@code webTestClient} directly. The others
+ * are grouped by client configuration (logging flag and timeout): each distinct configuration gets a lazily
+ * initialized client, declared once per generated class through {@link MethodSpecContext#members()}, and the test
+ * methods call its accessor instead of mutating {@code webTestClient} on every execution.</p>
+ *
+ * <p>Example generated output:</p>
+ * <pre>{@code
+ * private static volatile Map.Entry<WebTestClient, WebTestClient> loggingTimeout5sClient;
+ *
+ * private WebTestClient loggingTimeout5sClient() {
+ *     Map.Entry<WebTestClient, WebTestClient> value = loggingTimeout5sClient;
+ *     if (value == null || value.getKey() != this.webTestClient) {
+ *         loggingTimeout5sClient = value = Map.entry(this.webTestClient, this.webTestClient
+ *             .mutate()
+ *             .filter(logRequest())
+ *             .filter(logResponse())
+ *             .responseTimeout(Duration.ofSeconds(5))
+ *             .build());
+ *     }
+ *     return value.getValue();
+ * }
+ * }</pre>
+ *
+ * <p>The clients are {@code static}, because JUnit creates a test instance per test method. Each client is kept
+ * with the autowired client it was built from and is built again when the autowired client changes: the Spring
+ * TestContext framework usually hands the same one to every instance, but a new one, bound to the port of a new
+ * server, when the application context of the class was evicted from its cache and started again.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>  [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ * @see CaseTest
+ */
+public final class ClientNameResolver {
+
+    /**
+     * Resolves the client expression of a test method, declaring the client of its configuration on first use.
+     *
+     * @param context the generation context of the test method
+     * @return a {@code String} representing the client, either "webTestClient" or the call of the accessor of
+     *         the configured client, such as "loggingClient()"
+     */
+    public static String resolve(MethodSpecContext context) {
+        CaseTest test = context.test();
+        if (!test.enableLogging() && test.responseTimeoutSeconds() <= 0)
+            return Constants.WEB_TEST_CLIENT_CLASS_INSTANCE_NAME;
+
+        StringBuilder name = new StringBuilder();
+        StringBuilder statement = new StringBuilder("this.webTestClient\n\t.mutate()");
+        List<Object> args = new ArrayList<>();
+        if (test.enableLogging()) {
+            name.append("logging");
+            statement.append("\n\t.filter(logRequest())")
+                    .append("\n\t.filter(logResponse())");
+        }
+        if (test.responseTimeoutSeconds() > 0) {
+            name.append(name.isEmpty() ? "timeout" : "Timeout").append(test.responseTimeoutSeconds()).append('s');
+            statement.append("\n\t.responseTimeout($T.ofSeconds($L))");
+            args.add(Constants.Imports.DURATION);
+            args.add(test.responseTimeoutSeconds());
+        }
+        statement.append("\n\t.build()");
+        return context.members().lazy(Constants.Imports.WEB_TEST_CLIENT, name.append("Client").toString(),
+                Constants.Imports.WEB_TEST_CLIENT, Constants.WEB_TEST_CLIENT_CLASS_INSTANCE_NAME,
+                statement.toString(), args.toArray()) + "()";
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.kelari.atg.process.handler;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+
+/**
+ * A {@link MethodSpecHandler} that writes through a {@link TestMethodWriter} instead of the JavaPoet
+ * builders, so that it works with both the JavaPoet and the direct emitter.
+ *
+ * <p>All the built-in handlers implement this interface. The direct emitter can only be used when
+ * every handler of the chain does, including the ones registered as {@link java.util.ServiceLoader}
+ * providers; otherwise the generator falls back to the JavaPoet emitter.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @see MethodSpecHandlerChain#supportsDirectEmitter()
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public interface DirectMethodSpecHandler extends MethodSpecHandler {
+
+    /**
+     * Writes the annotations and statements this handler contributes to the test method.
+     *
+     * @param writer  the destination of the annotations and statements
+     * @param context the {@link MethodSpecContext} of the test method being built
+     */
+    void write(TestMethodWriter writer, MethodSpecContext context);
+
+    /**
+     * Writes into the JavaPoet builders of the test method, see {@link #write(TestMethodWriter, MethodSpecContext)}.
+     *
+     * @param methodBuilder    the {@link MethodSpec.Builder} used to construct the test method
+     * @param codeBlockBuilder the {@link CodeBlock.Builder} used to construct the method body
+     * @param context          the {@link MethodSpecContext} of the test method being built
+     */
+    @Override
+    default void handle(MethodSpec.Builder methodBuilder, CodeBlock.Builder codeBlockBuilder, MethodSpecContext context) {
+        write(new JavaPoetTestMethodWriter(methodBuilder, codeBlockBuilder), context);
+    }
+}
@@ -15,6 +15,11 @@ import java.util.List;
  *
  * <p>This interface is intended to be used in conjunction with the {@link FluentMethodSpecHandlerChain}, which applies
  * multiple handlers to generate the complete test method.</p>
+
+ * <p>Implementations must be stateless: a single instance is shared by every generated test method,
+ * and may be shared by concurrent generation threads. Additional handlers can be registered as
+ * {@link java.util.ServiceLoader} providers of this interface; they run after the built-in ones,
+ * so they can append their own expectations to the statement.</p>
  *
  * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>  [<()>] – Initial implementation.
  * @since 1.0
@@ -35,13 +40,9 @@ public interface FluentMethodSpecHandler {
      *
      * @param statement a {@link StringBuilder} that accumulates the test method's statement
      * @param args      a list of arguments that will be used within the test method's statement
-     * @param spec      the {@link SpecScenariosTest} that contains the test scenario specifications
-     * @param test      the {@link CaseTest} that contains the specific case test data
-     * @param fullPath  the full URI path of the endpoint being tested
+     * @param context   the {@link MethodSpecContext} holding the scenario, the case test and the endpoint path
      */
     void handle(StringBuilder statement,
                 List<Object> args,
-                SpecScenariosTest spec,
-                CaseTest test,
-                String fullPath);
+                MethodSpecContext context);
 }
@@ -0,0 +1,80 @@
+package io.github.kelari.atg.process.handler;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.model.SpecScenariosTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * A helper class responsible for managing a chain of {@link FluentMethodSpecHandler} instances.
+ * This class follows the Chain of Responsibility design pattern to apply multiple handlers sequentially
+ * to modify a {@link StringBuilder} and a list of arguments, ultimately building a dynamic test method.
+ *
+ * <p>Each {@link FluentMethodSpecHandler} is responsible for handling a specific part of the test method,
+ * such as URI, headers, body, cookies, etc. The {@link FluentMethodSpecHandlerChain} allows these handlers
+ * to be applied in sequence to modify the test method construction process dynamically.</p>
+ *
+ * <p>A chain is built once and reused for every test method: handlers are stateless and kept in an
+ * immutable array, and everything specific to a test method is passed in a {@link MethodSpecContext}.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>  [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ * @see FluentMethodSpecHandler
+ * @see CaseTest
+ * @see SpecScenariosTest
+ */
+public final class FluentMethodSpecHandlerChain {
+
+    private final FluentMethodSpecHandler[] handlers;
+
+    private FluentMethodSpecHandlerChain(FluentMethodSpecHandler[] handlers) {
+        this.handlers = handlers;
+    }
+
+    /**
+     * Creates a chain of the given handlers only, without the {@link ServiceLoader} providers.
+     *
+     * @param handlers the handlers, applied in order
+     * @return the immutable chain
+     */
+    public static FluentMethodSpecHandlerChain of(FluentMethodSpecHandler... handlers) {
+        return new FluentMethodSpecHandlerChain(handlers.clone());
+    }
+
+    /**
+     * Creates a chain of the given handlers, followed by the handlers registered as {@link ServiceLoader}
+     * providers of {@link FluentMethodSpecHandler}. Providers are looked up once, through the class loader
+     * that loaded the generator, and the resulting chain is immutable.
+     *
+     * @param builtInHandlers the handlers applied first, in order
+     * @return the immutable chain
+     */
+    public static FluentMethodSpecHandlerChain withProviders(FluentMethodSpecHandler... builtInHandlers) {
+        List<FluentMethodSpecHandler> handlers = new ArrayList<>(Arrays.asList(builtInHandlers));
+        ServiceLoader.load(FluentMethodSpecHandler.class, FluentMethodSpecHandlerChain.class.getClassLoader()).forEach(handlers::add);
+        return new FluentMethodSpecHandlerChain(handlers.toArray(new FluentMethodSpecHandler[0]));
+    }
+
+    /**
+     * Applies all handlers in the chain to modify the provided {@link StringBuilder} and list of arguments
+     * based on the test scenario and case test data.
+     *
+     * <p>This method iterates over all handlers in the chain and calls their {@link FluentMethodSpecHandler#handle}
+     * method to apply modifications to the statement and arguments.</p>
+     *
+     * @param statement a {@link StringBuilder} that accumulates the test method's statement
+     * @param args      a list of arguments that will be used within the test method's statement
+     * @param context   the {@link MethodSpecContext} of the test method being built
+     */
+    public void applyAll(StringBuilder statement,
+                         List<Object> args,
+                         MethodSpecContext context) {
+        for (FluentMethodSpecHandler handler : handlers) {
+            handler.handle(statement, args, context);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.kelari.atg.process.handler;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+
+/**
+ * {@link TestMethodWriter} adding the annotations and statements to the JavaPoet builders of a test method.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+final class JavaPoetTestMethodWriter implements TestMethodWriter {
+
+    private final MethodSpec.Builder methodBuilder;
+    private final CodeBlock.Builder codeBlockBuilder;
+
+    JavaPoetTestMethodWriter(MethodSpec.Builder methodBuilder, CodeBlock.Builder codeBlockBuilder) {
+        this.methodBuilder = methodBuilder;
+        this.codeBlockBuilder = codeBlockBuilder;
+    }
+
+    @Override
+    public void addAnnotation(ClassName type) {
+        methodBuilder.addAnnotation(type);
+    }
+
+    @Override
+    public void addAnnotation(ClassName type, String format, Object value) {
+        methodBuilder.addAnnotation(AnnotationSpec.builder(type)
+                .addMember("value", format, value)
+                .build());
+    }
+
+    @Override
+    public void addStatement(String format, Object... args) {
+        codeBlockBuilder.addStatement(format, args);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.kelari.atg.process.handler;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.model.SpecScenariosTest;
+
+/**
+ * Per-method values shared by every {@link MethodSpecHandler} and {@link FluentMethodSpecHandler}
+ * applied while generating one test method.
+ *
+ * <p>Handlers are stateless singletons reused for every test method, so anything that depends on the
+ * method being generated travels in this context. Values derived from the model, such as the lowercase
+ * HTTP method or the status assertion, are computed once here instead of in each handler.</p>
+ *
+ * @param spec               the endpoint scenarios the test method belongs to
+ * @param test               the test case being generated
+ * @param fullPath           the full URI path of the endpoint being tested
+ * @param httpMethod         the lowercase HTTP method of the endpoint (e.g., {@code get})
+ * @param expectStatusMethod the {@code StatusAssertions} method checking the expected status (e.g., {@code isOk})
+ * @param members            the class-level members shared by the test methods of the generated class,
+ *                           where handlers hoist constants and helper methods
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public record MethodSpecContext(SpecScenariosTest spec,
+                                CaseTest test,
+                                String fullPath,
+                                String httpMethod,
+                                String expectStatusMethod,
+                                TestClassMembers members) {
+}
@@ -13,6 +13,10 @@ import io.github.kelari.atg.model.SpecScenariosTest;
  *
  * <p>This interface allows the use of the Chain of Responsibility design pattern, where multiple handlers
  * can be applied sequentially to configure the test method as needed.</p>
+
+ * <p>Implementations must be stateless: a single instance is shared by every generated test method,
+ * and may be shared by concurrent generation threads. Additional handlers can be registered as
+ * {@link java.util.ServiceLoader} providers of this interface; they run after the built-in ones.</p>
  *
 
  * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>  [<()>] – Initial implementation.
@@ -33,9 +37,7 @@ public interface MethodSpecHandler {
      *
      * @param methodBuilder     the {@link MethodSpec.Builder} used to construct the test method.
      * @param codeBlockBuilder  the {@link CodeBlock.Builder} used to construct the method body.
-     * @param spec              the {@link SpecScenariosTest} that contains the test scenario specifications.
-     * @param test              the {@link CaseTest} that contains the specific case test data.
-     * @param fullPath          the full URI path of the endpoint being tested.
+     * @param context           the {@link MethodSpecContext} holding the scenario, the case test and the endpoint path.
      */
-    void handle(MethodSpec.Builder methodBuilder, CodeBlock.Builder codeBlockBuilder, SpecScenariosTest spec, CaseTest test, String fullPath);
+    void handle(MethodSpec.Builder methodBuilder, CodeBlock.Builder codeBlockBuilder, MethodSpecContext context);
 }
@@ -0,0 +1,94 @@
+package io.github.kelari.atg.process.handler;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.model.SpecScenariosTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * A helper class that manages a chain of {@link MethodSpecHandler} instances.
+ * This class allows the dynamic construction of a chain of handlers that modify a {@link MethodSpec}
+ * and a {@link CodeBlock} based on various conditions in the provided {@link SpecScenariosTest} and {@link CaseTest}.
+ * The handlers are applied in the order they are added to the chain.
+ *
+ * <p>The {@link MethodSpecHandlerChain} class is used to apply various configurations to a test method,
+ * such as annotations, parameters, and any necessary setup or teardown operations.</p>
+ *
+ * <p>A chain is built once and reused for every test method: handlers are stateless and kept in an
+ * immutable array, and everything specific to a test method is passed in a {@link MethodSpecContext}.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>  [<()>] – Initial implementation.
+ * @since 1.0
+ * @see MethodSpecHandler
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class MethodSpecHandlerChain {
+
+    private final MethodSpecHandler[] handlers;
+    private final boolean supportsDirectEmitter;
+
+    private MethodSpecHandlerChain(MethodSpecHandler[] handlers) {
+        this.handlers = handlers;
+        this.supportsDirectEmitter = Arrays.stream(handlers).allMatch(DirectMethodSpecHandler.class::isInstance);
+    }
+
+    /**
+     * Creates a chain of the given handlers, followed by the handlers registered as {@link ServiceLoader}
+     * providers of {@link MethodSpecHandler}. Providers are looked up once, through the class loader
+     * that loaded the generator, and the resulting chain is immutable.
+     *
+     * @param builtInHandlers the handlers applied first, in order
+     * @return the immutable chain
+     */
+    public static MethodSpecHandlerChain withProviders(MethodSpecHandler... builtInHandlers) {
+        List<MethodSpecHandler> handlers = new ArrayList<>(Arrays.asList(builtInHandlers));
+        ServiceLoader.load(MethodSpecHandler.class, MethodSpecHandlerChain.class.getClassLoader()).forEach(handlers::add);
+        return new MethodSpecHandlerChain(handlers.toArray(new MethodSpecHandler[0]));
+    }
+
+    /**
+     * Applies all the handlers in the chain to the provided {@link MethodSpec.Builder} and {@link CodeBlock.Builder}.
+     * Each handler in the chain is responsible for modifying the method spec and code block according to the test scenario.
+     *
+     * <p>Handlers might add annotations, generate code, or configure other aspects of the test method.</p>
+     *
+     * @param methodBuilder   the {@link MethodSpec.Builder} representing the test method being built.
+     * @param codeBlockBuilder the {@link CodeBlock.Builder} used to build the body of the method.
+     * @param context         the {@link MethodSpecContext} of the test method being built.
+     */
+    public void applyAll(MethodSpec.Builder methodBuilder, CodeBlock.Builder codeBlockBuilder, MethodSpecContext context) {
+        for (MethodSpecHandler handler : handlers) {
+            handler.handle(methodBuilder, codeBlockBuilder, context);
+        }
+    }
+
+    /**
+     * Checks whether every handler in the chain is a {@link DirectMethodSpecHandler}, which is
+     * required to generate the test methods with the direct emitter.
+     *
+     * @return {@code true} if {@link #writeAll(TestMethodWriter, MethodSpecContext)} can be used
+     */
+    public boolean supportsDirectEmitter() {
+        return supportsDirectEmitter;
+    }
+
+    /**
+     * Applies all the handlers in the chain to the provided {@link TestMethodWriter}.
+     *
+     * @param writer  the destination of the annotations and statements of the test method.
+     * @param context the {@link MethodSpecContext} of the test method being built.
+     * @throws IllegalStateException if a handler is not a {@link DirectMethodSpecHandler}
+     */
+    public void writeAll(TestMethodWriter writer, MethodSpecContext context) {
+        if (!supportsDirectEmitter)
+            throw new IllegalStateException("The handler chain contains handlers that do not support the direct emitter");
+        for (MethodSpecHandler handler : handlers) {
+            ((DirectMethodSpecHandler) handler).write(writer, context);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,237 @@
+package io.github.kelari.atg.process.handler;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Class-level members shared by the test methods of one generated test class: {@code static final}
+ * constants hoisted out of the test methods (URI templates, expected header values, Hamcrest matchers),
+ * helper methods holding the request-building code of each endpoint, and lazily initialized values
+ * derived from an instance field, such as the {@code WebTestClient} of each client configuration.
+ *
+ * <p>Handlers ask for a member while a test method is built and write its name into the method.
+ * Identical members are declared once, so a matcher repeated by every case of an endpoint becomes a
+ * single field, allocated once per class instead of once per test execution, and the test methods
+ * stay small enough to be compiled by the JIT. Names are made unique in the order the members are
+ * requested, so the generated source is stable from one build to the next.</p>
+ *
+ * <p>An instance is created for each generated test class and is only used by the thread generating it.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @see MethodSpecContext#members()
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class TestClassMembers {
+
+    private final Map<MemberKey, String> constantNames = new LinkedHashMap<>();
+    private final Map<MemberKey, String> methodNames = new LinkedHashMap<>();
+    private final List<Constant> constants = new ArrayList<>();
+    private final List<Method> methods = new ArrayList<>();
+    private final Map<MemberKey, String> lazyNames = new LinkedHashMap<>();
+    private final List<Lazy> lazies = new ArrayList<>();
+    private final Set<String> usedConstantNames = new HashSet<>();
+    private final Set<String> usedMethodNames = new HashSet<>();
+
+    /**
+     * Returns the name of a {@code static final} constant, declaring it on first use.
+     *
+     * @param type   the type of the constant
+     * @param name   the preferred name of the constant (see {@link #constantName(String, String)});
+     *               a numeric suffix is appended if another constant already uses it
+     * @param format the format of the initializer
+     * @param args   the arguments of the initializer
+     * @return the name under which the constant is declared
+     */
+    public String constant(TypeName type, String name, String format, Object... args) {
+        MemberKey key = new MemberKey(name, type, format, Arrays.asList(args));
+        String declaredName = constantNames.get(key);
+        if (Objects.isNull(declaredName)) {
+            declaredName = uniqueName(usedConstantNames, name, "_");
+            constantNames.put(key, declaredName);
+            constants.add(new Constant(type, declaredName, format, args));
+        }
+        return declaredName;
+    }
+
+    /**
+     * Returns the name of an instance helper method whose body is a single statement, declaring it on first use.
+     *
+     * @param returnType the return type of the method
+     * @param name       the preferred name of the method; a numeric suffix is appended if another
+     *                   helper method already uses it
+     * @param parameters the parameters of the method
+     * @param format     the format of the statement
+     * @param args       the arguments of the statement
+     * @return the name under which the method is declared
+     */
+    public String method(TypeName returnType, String name, List<ParameterSpec> parameters, String format, Object... args) {
+        MemberKey key = new MemberKey(name, returnType, format, List.of(parameters, Arrays.asList(args)));
+        String declaredName = methodNames.get(key);
+        if (Objects.isNull(declaredName)) {
+            declaredName = uniqueName(usedMethodNames, name, "");
+            methodNames.put(key, declaredName);
+            methods.add(new Method(returnType, declaredName, parameters, format, args));
+        }
+        return declaredName;
+    }
+
+    /**
+     * Returns the name of the accessor of a lazily initialized value, declaring it on first use.
+     * <p>
+     * The value is derived from an instance field, its source, such as the autowired {@code webTestClient}.
+     * It is held, together with the source it was created from, by a {@code static volatile} field named after
+     * the accessor, and is created by the first call of the accessor, then created again whenever the source
+     * of the calling instance is another object (e.g., after the Spring context of the class was evicted from
+     * the context cache and a new one was started). The value must be immutable and equivalent whichever
+     * instance creates it from the same source: two tests may both create it on their first concurrent call,
+     * and the last one wins.
+     * </p>
+     *
+     * @param type       the type of the value
+     * @param name       the preferred name of the accessor and of its field; a numeric suffix is appended if
+     *                   another helper method already uses it
+     * @param sourceType the type of the source field
+     * @param source     the name of the source field
+     * @param format     the format of the expression creating the value
+     * @param args       the arguments of the expression
+     * @return the name under which the accessor is declared
+     */
+    public String lazy(TypeName type, String name, TypeName sourceType, String source, String format, Object... args) {
+        MemberKey key = new MemberKey(name, type, format, List.of(sourceType, source, Arrays.asList(args)));
+        String declaredName = lazyNames.get(key);
+        if (Objects.isNull(declaredName)) {
+            declaredName = uniqueName(usedMethodNames, name, "");
+            lazyNames.put(key, declaredName);
+            lazies.add(new Lazy(type, declaredName, sourceType, source, format, args));
+        }
+        return declaredName;
+    }
+
+    /**
+     * Builds the constants requested so far, in the order they were first requested, followed by the
+     * fields of the lazily initialized values.
+     *
+     * @param access the access modifier of the fields ({@code private}, or {@code protected} in a base class)
+     * @return the field declarations
+     */
+    public List<FieldSpec> fields(Modifier access) {
+        List<FieldSpec> fields = new ArrayList<>(constants.size() + lazies.size());
+        for (Constant constant : constants)
+            fields.add(FieldSpec.builder(constant.type(), constant.name(), access, Modifier.STATIC, Modifier.FINAL)
+                    .initializer(constant.format(), constant.args())
+                    .build());
+        for (Lazy lazy : lazies)
+            fields.add(FieldSpec.builder(lazy.holderType(), lazy.name(), access, Modifier.STATIC, Modifier.VOLATILE)
+                    .build());
+        return fields;
+    }
+
+    /**
+     * Builds the accessors of the lazily initialized values, then the helper methods requested so far,
+     * each in the order they were first requested.
+     *
+     * @param access the access modifier of the methods ({@code private}, or {@code protected} in a base class)
+     * @return the method declarations
+     */
+    public List<MethodSpec> methods(Modifier access) {
+        List<MethodSpec> methodSpecs = new ArrayList<>(lazies.size() + methods.size());
+        for (Lazy lazy : lazies)
+            methodSpecs.add(MethodSpec.methodBuilder(lazy.name())
+                    .addModifiers(access)
+                    .returns(lazy.type())
+                    .addStatement("$T value = $N", lazy.holderType(), lazy.name())
+                    .beginControlFlow("if (value == null || value.getKey() != this.$N)", lazy.source())
+                    .addStatement("$N = value = $T.entry(this.$N, " + lazy.format() + ")",
+                            concat(new Object[] {lazy.name(), Map.class, lazy.source()}, lazy.args()))
+                    .endControlFlow()
+                    .addStatement("return value.getValue()")
+                    .build());
+        for (Method method : methods)
+            methodSpecs.add(MethodSpec.methodBuilder(method.name())
+                    .addModifiers(access)
+                    .returns(method.returnType())
+                    .addParameters(method.parameters())
+                    .addStatement(method.format(), method.args())
+                    .build());
+        return methodSpecs;
+    }
+
+    /**
+     * Derives a constant name from free text, such as a JSON path or a header name: letters and digits
+     * are upper-cased, word boundaries become underscores, and the suffix is appended
+     * (e.g., {@code "$.user.firstName"} and {@code "MATCHER"} give {@code USER_FIRST_NAME_MATCHER}).
+     *
+     * @param text   the text the constant is named after, may be empty
+     * @param suffix the suffix describing the kind of constant
+     * @return a valid constant name
+     */
+    public static String constantName(String text, String suffix) {
+        StringBuilder name = new StringBuilder(text.length() + suffix.length() + 4);
+        boolean separator = false;
+        char previous = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                separator = true;
+            } else {
+                if (Character.isUpperCase(c) && (Character.isLowerCase(previous) || Character.isDigit(previous)))
+                    separator = true;
+                if (separator && !name.isEmpty())
+                    name.append('_');
+                separator = false;
+                name.append(Character.toUpperCase(c));
+            }
+            previous = c;
+        }
+        if (!name.isEmpty() && Character.isDigit(name.charAt(0)))
+            name.insert(0, '_');
+        return name.isEmpty() ? suffix : name.append('_').append(suffix).toString();
+    }
+
+    private static Object[] concat(Object[] first, Object[] rest) {
+        Object[] args = new Object[first.length + rest.length];
+        System.arraycopy(first, 0, args, 0, first.length);
+        System.arraycopy(rest, 0, args, first.length, rest.length);
+        return args;
+    }
+
+    private static String uniqueName(Set<String> usedNames, String name, String separator) {
+        String uniqueName = name;
+        for (int i = 2; !usedNames.add(uniqueName); i++)
+            uniqueName = name + separator + i;
+        return uniqueName;
+    }
+
+    /**
+     * Identity of a member: two requests with the same key share the declaration.
+     */
+    private record MemberKey(String name, TypeName type, String format, List<Object> args) {}
+
+    private record Constant(TypeName type, String name, String format, Object[] args) {}
+
+    private record Lazy(TypeName type, String name, TypeName sourceType, String source, String format, Object[] args) {
+
+        /** The type of the field holding the value and its source: {@code Map.Entry<SourceType, Type>}. */
+        private TypeName holderType() {
+            return ParameterizedTypeName.get(ClassName.get(Map.Entry.class), sourceType, type);
+        }
+    }
+
+    private record Method(TypeName returnType, String name, List<ParameterSpec> parameters, String format, Object[] args) {}
+}
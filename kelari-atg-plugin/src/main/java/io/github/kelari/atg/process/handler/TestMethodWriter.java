@@ -0,0 +1,43 @@
+package io.github.kelari.atg.process.handler;
+
+import com.squareup.javapoet.ClassName;
+
+/**
+ * Destination of the annotations and statements of a generated test method, independent of the
+ * emitter that renders them.
+ *
+ * <p>Formats use the JavaPoet placeholders {@code $L}, {@code $S}, {@code $T} and {@code $$}, with
+ * relative arguments only. The JavaPoet emitter hands them to a {@link com.squareup.javapoet.MethodSpec.Builder},
+ * while the direct emitter formats them itself, so both produce the same source.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @see DirectMethodSpecHandler
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public interface TestMethodWriter {
+
+    /**
+     * Adds a marker annotation to the test method (e.g., {@code @Test}).
+     *
+     * @param type the annotation type
+     */
+    void addAnnotation(ClassName type);
+
+    /**
+     * Adds an annotation with a single {@code value} member to the test method (e.g., {@code @Timeout(5)}).
+     *
+     * @param type   the annotation type
+     * @param format the format of the member value
+     * @param value  the argument of the format
+     */
+    void addAnnotation(ClassName type, String format, Object value);
+
+    /**
+     * Adds a statement to the body of the test method. The terminating semicolon is added by the writer.
+     *
+     * @param format the format of the statement
+     * @param args   the arguments of the format
+     */
+    void addStatement(String format, Object... args);
+}
@@ -0,0 +1,45 @@
+package io.github.kelari.atg.process.handler.annotations;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.process.handler.DirectMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.TestMethodWriter;
+import io.github.kelari.atg.util.Constants;
+
+import java.util.Objects;
+
+/**
+ * {@code DisplayNameHandler} is a {@link DirectMethodSpecHandler} implementation responsible
+ * for adding the {@code @DisplayName} annotation to the generated test method.
+ *
+ * <p>This annotation improves test readability by providing a human-friendly description
+ * that appears in test reports and IDE test runners.
+ *
+ * <p>The display name value is taken from the {@code displayName} property of the {@link CaseTest}.
+ *
+ * <p>Example generated output:
+ * <pre>{@code
+ * @DisplayName("✅ Should return 200 OK when the ID is valid")
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public class DisplayNameHandler implements DirectMethodSpecHandler {
+
+    /**
+     * Adds the {@code @DisplayName} annotation to the test method, if the
+     * {@code displayName} field is defined in the {@link CaseTest}.
+     *
+     * @param writer  the writer to which the annotation will be added
+     * @param context the generation context of the test method
+     */
+    @Override
+    public void write(TestMethodWriter writer, MethodSpecContext context) {
+        CaseTest test = context.test();
+        if (Objects.nonNull(test.displayName()) && !test.displayName().isEmpty()) {
+            writer.addAnnotation(Constants.Imports.DISPLAY_NAME, "$S", test.displayName());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.kelari.atg.process.handler.annotations;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.process.handler.DirectMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.TestMethodWriter;
+import io.github.kelari.atg.util.Constants;
+
+/**
+ * {@code OrderHandler} is a {@link DirectMethodSpecHandler} implementation that adds the {@code @Order}
+ * annotation to the generated test method.
+ * <p>
+ * The {@code @Order} annotation defines the execution order of test methods in a test class.
+ * It is useful for ensuring that some tests are run before others, especially in integration testing.
+ * <p>
+ * The annotation is only added to the cases with an {@code order} greater than zero. The generated class
+ * orders its methods with {@code @TestMethodOrder(MethodOrderer.OrderAnnotation.class)}; in a concurrent
+ * class, the ordered methods are grouped in a {@code @Nested} class running them on the same thread.
+ *
+ * <p>Example generated output:
+ * <pre>{@code
+ * @Order(3)
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public class OrderHandler implements DirectMethodSpecHandler {
+
+    /**
+     * Adds the {@code @Order} annotation to the test method if the order in {@link CaseTest}
+     * is greater than zero.
+     *
+     * @param writer  the writer to which the annotation will be added
+     * @param context the generation context of the test method
+     */
+    @Override
+    public void write(TestMethodWriter writer, MethodSpecContext context) {
+        CaseTest test = context.test();
+        if (test.order() > 0) {
+            writer.addAnnotation(Constants.Imports.ORDER, "$L", test.order());
+        }
+    }
+}
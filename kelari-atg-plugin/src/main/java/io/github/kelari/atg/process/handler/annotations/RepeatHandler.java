@@ -0,0 +1,50 @@
+package io.github.kelari.atg.process.handler.annotations;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.process.handler.DirectMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.TestMethodWriter;
+import io.github.kelari.atg.util.Constants;
+
+/**
+ * {@code RepeatHandler} is a {@link DirectMethodSpecHandler} implementation that adds the {@code @Repeat}
+ * annotation to the generated test method if the {@link CaseTest#repeat()} value is greater than 1.
+ * <p>
+ * The {@code @Repeat} annotation is used to repeat the execution of a test method multiple times. If
+ * the {@code repeat} field in {@link CaseTest} is 1 or less, the method is annotated with {@code @Test}
+ * instead, ensuring that only the specified number of repetitions occurs.
+ * <p>
+ * Example generated output when {@code repeat} is greater than 1:
+ * <pre>{@code
+ * @Repeat(5)
+ * }</pre>
+ *
+ * <p>When the repeat count is 1 or less, the default {@code @Test} annotation will be used instead:
+ * <pre>{@code
+ * @Test
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public class RepeatHandler implements DirectMethodSpecHandler {
+
+    /**
+     * Adds the {@code @Repeat} annotation to the test method if the {@code repeat} value in
+     * {@link CaseTest} is greater than 1. If {@code repeat} is 1 or less, the method is annotated
+     * with {@code @Test} instead.
+     *
+     * @param writer  the writer to which the annotation will be added
+     * @param context the generation context of the test method
+     */
+    @Override
+    public void write(TestMethodWriter writer, MethodSpecContext context) {
+        CaseTest test = context.test();
+        if (test.repeat() > 1) {
+            writer.addAnnotation(Constants.Imports.REPEAT, "$L", test.repeat());
+        } else {
+            writer.addAnnotation(Constants.Imports.TEST);
+        }
+    }
+}
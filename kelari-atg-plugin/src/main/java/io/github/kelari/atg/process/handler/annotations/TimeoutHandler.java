@@ -0,0 +1,44 @@
+package io.github.kelari.atg.process.handler.annotations;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.process.handler.DirectMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.TestMethodWriter;
+import io.github.kelari.atg.util.Constants;
+
+/**
+ * {@code TimeoutHandler} is a {@link DirectMethodSpecHandler} implementation that adds the {@code @Timeout}
+ * annotation to the generated test method if the {@link CaseTest#timeout()} value is greater than 0.
+ * <p>
+ * The {@code @Timeout} annotation is used to specify the maximum duration allowed for a test method
+ * to run. If the {@code timeout} field in {@link CaseTest} is greater than 0, the method is annotated
+ * with {@code @Timeout}. Otherwise, the test method will not have a timeout annotation.
+ * <p>
+ * Example generated output when {@code timeout} is greater than 0:
+ * <pre>{@code
+ * @Timeout(5000) // Timeout of 5000 milliseconds
+ * }</pre>
+ *
+ * <p>If the {@code timeout} value is 0 or less, no annotation is added to the test method.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public class TimeoutHandler implements DirectMethodSpecHandler {
+
+    /**
+     * Adds the {@code @Timeout} annotation to the test method if the {@code timeout} value in
+     * {@link CaseTest} is greater than 0.
+     *
+     * @param writer  the writer to which the annotation will be added
+     * @param context the generation context of the test method
+     */
+    @Override
+    public void write(TestMethodWriter writer, MethodSpecContext context) {
+        CaseTest test = context.test();
+        if (test.timeout() > 0) {
+            writer.addAnnotation(Constants.Imports.TIMEOUT, "$L", test.timeout());
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package io.github.kelari.atg.process.handler.client;
 
 import io.github.kelari.atg.model.CaseTest;
-import io.github.kelari.atg.model.SpecScenariosTest;
 import io.github.kelari.atg.process.handler.FluentMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.util.Constants;
 
 import java.util.List;
 
@@ -10,13 +11,13 @@ import java.util.List;
  * {@code AuthHandler} is an implementation of {@link FluentMethodSpecHandler} that adds the
  * {@code Authorization} header to the HTTP request if the test case requires authentication.
  * <p>
- * This handler checks if the test case {@link CaseTest#isRequiresAuth()} is {@code true}, and if so,
- * it appends an authorization header with a "bearer" token to the HTTP request. The token value
- * used in this case is a placeholder string {@code "bearerToken"}.
+ * This handler checks if the test case {@link CaseTest#requiresAuth()} is {@code true}, and if so,
+ * it appends an authorization header with a "bearer" token to the HTTP request. The value is
+ * returned by the {@code bearerToken()} method of the generated class, backed by the JVM-wide token cache.
  * </p>
  * Example generated output when authentication is required:
  * <pre>{@code
- * .header("Authorization", "bearerToken")
+ * .header("Authorization", bearerToken())
  * }</pre>
  * <p>
  * If the test case does not require authentication, this handler does nothing.
@@ -34,21 +35,17 @@ public class AuthHandler implements FluentMethodSpecHandler {
      *
      * @param statement the statement being constructed for the HTTP request
      * @param args      the arguments to be inserted into the statement
-     * @param spec      the specification for the test scenario
-     * @param test      the individual test case
-     * @param fullPath  the full path of the test (not used here)
+     * @param context   the generation context of the test method
      */
     @Override
     public void handle(StringBuilder statement,
                        List<Object> args,
-                       SpecScenariosTest spec,
-                       CaseTest test,
-                       String fullPath) {
+                       MethodSpecContext context) {
 
-        if (test.isRequiresAuth()) {
+        if (context.test().requiresAuth()) {
             statement.append("\n\t.header($S, $L)");
             args.add("Authorization");
-            args.add("bearerToken");
+            args.add(Constants.ATTRIBUTE_CLASS_TEST_BEARER_TOKEN + "()");
         }
     }
 }
@@ -2,8 +2,8 @@ package io.github.kelari.atg.process.handler.client;
 
 import io.github.kelari.atg.model.CaseTest;
 import io.github.kelari.atg.model.ParameterMetadataTest;
-import io.github.kelari.atg.model.SpecScenariosTest;
 import io.github.kelari.atg.process.handler.FluentMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
 import io.github.kelari.atg.process.helper.MethodGenerationHelper;
 import io.github.kelari.atg.util.Constants;
 
@@ -24,8 +24,9 @@ import java.util.Optional;
  * a method to build the multipart data.
  * </p>
  * <p>
- * For JSON bodies, it sets the {@code contentType} as {@code APPLICATION_JSON} and includes the
- * body values from the test parameters.
+ * For JSON bodies, it sets the {@code contentType} as {@code APPLICATION_JSON} and sends the body
+ * as the JSON bytes returned by {@code DataLoadUtil.jsonBody}, serialized by a shared writer and cached
+ * with the test data, so repeated tests neither serialize nor encode it again.
  * </p>
  * <p>
  * Example generated output for multipart form data:
@@ -36,7 +37,7 @@ import java.util.Optional;
  * Example generated output for JSON body:
  * <pre>{@code
  * .contentType(MediaType.APPLICATION_JSON)
- * .bodyValue(formatBody(entry.getKey()))
+ * .bodyValue(jsonBody(data, "body"))
  * }</pre>
  * </p>
  *
@@ -53,20 +54,17 @@ public class BodyHandler implements FluentMethodSpecHandler {
      *
      * @param statement the statement being constructed for the HTTP request
      * @param args      the arguments to be inserted into the statement
-     * @param spec      the specification for the test scenario
-     * @param test      the individual test case
-     * @param fullPath  the full path of the test (not used here)
+     * @param context   the generation context of the test method
      */
     @Override
     public void handle(StringBuilder statement,
                        List<Object> args,
-                       SpecScenariosTest spec,
-                       CaseTest test,
-                       String fullPath) {
+                       MethodSpecContext context) {
+        CaseTest test = context.test();
 
-        String httpMethod = spec.getHttpMethod().toLowerCase();
+        String httpMethod = context.httpMethod();
 
-        if (MethodGenerationHelper.requiresMultipartFormData(httpMethod, test.getMethodParameters())) {
+        if (MethodGenerationHelper.requiresMultipartFormData(httpMethod, test.methodParameters())) {
             statement.append("\n\t.contentType($T.MULTIPART_FORM_DATA)");
             args.add(Constants.Imports.MEDIA_TYPE);
             statement.append("\n\t.body($T.fromMultipartData(buildMultipartData(data)))");
@@ -75,11 +73,11 @@ public class BodyHandler implements FluentMethodSpecHandler {
             statement.append("\n\t.contentType($T.APPLICATION_JSON)");
             args.add(Constants.Imports.MEDIA_TYPE);
 
-            Optional.ofNullable(test.getMethodParameters())
-                    .map(ParameterMetadataTest::getBody)
+            Optional.ofNullable(test.methodParameters())
+                    .map(ParameterMetadataTest::body)
                     .ifPresent(bodyMap -> {
                         for (Map.Entry<String, String> entry : bodyMap.entrySet()) {
-                            statement.append("\n\t.bodyValue(formatBody($L))");
+                            statement.append("\n\t.bodyValue(jsonBody(data, $S))");
                             args.add(entry.getKey());
                         }
                     });
@@ -1,9 +1,8 @@
 package io.github.kelari.atg.process.handler.client;
 
-import io.github.kelari.atg.model.CaseTest;
 import io.github.kelari.atg.model.ParameterMetadataTest;
-import io.github.kelari.atg.model.SpecScenariosTest;
 import io.github.kelari.atg.process.handler.FluentMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,18 +34,14 @@ public class CookieHandler implements FluentMethodSpecHandler {
      *
      * @param statement the StringBuilder used to append the generated statements
      * @param args      the list of arguments for the generated statements
-     * @param spec      the specification for the test scenario
-     * @param test      the individual test case containing the method parameters with cookie information
-     * @param fullPath  the full path of the test (not used here)
+     * @param context   the generation context of the test method
      */
     @Override
     public void handle(StringBuilder statement,
                        List<Object> args,
-                       SpecScenariosTest spec,
-                       CaseTest test,
-                       String fullPath) {
-        Optional.ofNullable(test.getMethodParameters())
-                .map(ParameterMetadataTest::getCookieParams)
+                       MethodSpecContext context) {
+        Optional.ofNullable(context.test().methodParameters())
+                .map(ParameterMetadataTest::cookieParams)
                 .ifPresent(params -> {
                     for (String key : params.keySet()) {
                         statement.append("\n\t.cookie($S, safeString(data.get($S)))");
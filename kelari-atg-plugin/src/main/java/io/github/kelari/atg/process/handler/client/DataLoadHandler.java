@@ -0,0 +1,69 @@
+package io.github.kelari.atg.process.handler.client;
+
+import com.squareup.javapoet.ClassName;
+import io.github.kelari.atg.process.handler.DirectMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.TestMethodWriter;
+import io.github.kelari.atg.util.Constants;
+
+import java.util.Objects;
+
+/**
+ * {@code DataLoadHandler} is an implementation of {@link DirectMethodSpecHandler} responsible for loading the
+ * test data from the data provider class of the test case.
+ * <p>
+ * The data is held in a {@code data} local variable, which is passed to the request helper of the endpoint:
+ * path, query, matrix, header and cookie values, as well as the request body, are read from it by name.
+ * </p>
+ * <p>
+ * A provider visible when the tests are generated is created through its constructor reference, so the
+ * runtime neither looks it up nor instantiates it through reflection. Other providers are looked up by name,
+ * once per test JVM. Either way, {@code DataLoadUtil} caches the provider and, unless it opts out, its data.
+ * </p>
+ * <p><strong>Example generated code:</strong></p>
+ * <pre>{@code
+ * Map<String, Object> data = getData(UserDataLoad.class, UserDataLoad::new);
+ * Map<String, Object> data = getData("com.example.test.OrderDataLoad");
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public class DataLoadHandler implements DirectMethodSpecHandler {
+
+    /**
+     * Handles the data loading process by retrieving data from the specified data provider class.
+     *
+     * @param writer  the writer to which the generated statements are added
+     * @param context the generation context of the test method
+     */
+    @Override
+    public void write(TestMethodWriter writer, MethodSpecContext context) {
+        String dataProviderClassName = context.test().dataProviderClassName();
+        ClassName dataProvider = context.test().dataProviderInstantiable() ? typeName(dataProviderClassName) : null;
+        if (Objects.nonNull(dataProvider))
+            writer.addStatement("$T<String, Object> data = getData($T.class, $T::new)",
+                    Constants.Imports.MAP, dataProvider, dataProvider);
+        else
+            writer.addStatement("$T<String, Object> data = getData($S)",
+                    Constants.Imports.MAP, dataProviderClassName);
+    }
+
+    /**
+     * Splits the canonical name of a provider into its package and class names, relying on the naming
+     * conventions (lowercase packages, capitalized classes).
+     *
+     * @param canonicalName the canonical name of the provider
+     * @return the type name, or {@code null} if the name does not follow the conventions, in which case
+     *         the provider is looked up by name
+     */
+    private static ClassName typeName(String canonicalName) {
+        try {
+            ClassName typeName = ClassName.bestGuess(canonicalName);
+            return typeName.canonicalName().equals(canonicalName) ? typeName : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
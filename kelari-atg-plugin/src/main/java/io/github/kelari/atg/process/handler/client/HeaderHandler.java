@@ -2,8 +2,8 @@ package io.github.kelari.atg.process.handler.client;
 
 import io.github.kelari.atg.model.CaseTest;
 import io.github.kelari.atg.model.ParameterMetadataTest;
-import io.github.kelari.atg.model.SpecScenariosTest;
 import io.github.kelari.atg.process.handler.FluentMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,20 +33,16 @@ public class HeaderHandler implements FluentMethodSpecHandler {
      *
      * @param statement         the {@link StringBuilder} used to build the generated test code
      * @param args             the list of arguments that are added to the statement (e.g., header key-value pairs)
-     * @param spec             the specification for the test scenario
-     * @param test             the individual test case containing the header parameters
-     * @param fullPath         the full path of the test (not used here)
+     * @param context          the generation context of the test method
      */
     @Override
     public void handle(StringBuilder statement,
                        List<Object> args,
-                       SpecScenariosTest spec,
-                       CaseTest test,
-                       String fullPath) {
+                       MethodSpecContext context) {
 
         // Check for header parameters in the test case
-        Optional.ofNullable(test.getMethodParameters())
-                .map(ParameterMetadataTest::getHeaderParams)
+        Optional.ofNullable(context.test().methodParameters())
+                .map(ParameterMetadataTest::headerParams)
                 .ifPresent(params -> {
                     // Iterate through the header parameters and generate header statements
                     for (String key : params.keySet()) {
@@ -0,0 +1,66 @@
+package io.github.kelari.atg.process.handler.client;
+
+import com.squareup.javapoet.ClassName;
+import io.github.kelari.atg.model.ParameterMetadataTest;
+import io.github.kelari.atg.process.handler.FluentMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.TestClassMembers;
+import io.github.kelari.atg.process.helper.MethodGenerationHelper;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code UriHandler} is an implementation of {@link FluentMethodSpecHandler} that handles the generation of the
+ * URI for the WebTestClient request in a test scenario.
+ * <p>
+ * It builds the URI template of the endpoint, taking into account any path parameters, query parameters, and
+ * matrix parameters that may be part of the test case. The template is hoisted into a {@code static final}
+ * constant of the test class, and the values of its variables are read from the test data when the request
+ * is built, so no string concatenation happens at run time.
+ * </p>
+ * <p>
+ * Example of generated code:
+ * </p>
+ * <pre>
+ * private static final String GET_BY_ID_URI = "/items/{id}?page={page}";
+ * ...
+ * .uri(GET_BY_ID_URI, data.get("id"), data.get("page"))
+ * </pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public class UriHandler implements FluentMethodSpecHandler {
+
+    /**
+     * Handles the generation of the URI for the test, incorporating any path, query, and matrix parameters
+     * specified in the test case. The URI template constant and the values of its variables are then added
+     * to the WebTestClient request statement.
+     *
+     * @param statement         the {@link StringBuilder} used to build the generated test code
+     * @param args             the list of arguments that are added to the statement (e.g., the template constant and variable names)
+     * @param context          the generation context of the test method
+     */
+    @Override
+    public void handle(StringBuilder statement,
+                       List<Object> args,
+                       MethodSpecContext context) {
+        Optional<ParameterMetadataTest> parameters = Optional.ofNullable(context.test().methodParameters());
+        MethodGenerationHelper.UriTemplate uriTemplate = MethodGenerationHelper.prepareUriTemplate(
+                context.fullPath(),
+                parameters.map(ParameterMetadataTest::queryParams).orElse(null),
+                parameters.map(ParameterMetadataTest::matrixParams).orElse(null)
+        );
+        String constant = context.members().constant(ClassName.get(String.class),
+                TestClassMembers.constantName(context.spec().methodName(), "URI"), "$S", uriTemplate.template());
+        statement.append("\n\t.uri($L");
+        args.add(constant);
+        for (String variable : uriTemplate.variables()) {
+            statement.append(", data.get($S)");
+            args.add(variable);
+        }
+        statement.append(")");
+    }
+}
\ No newline at end of file
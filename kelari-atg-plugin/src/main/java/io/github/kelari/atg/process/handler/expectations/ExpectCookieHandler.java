@@ -2,8 +2,8 @@ package io.github.kelari.atg.process.handler.expectations;
 
 import io.github.kelari.atg.model.CaseTest;
 import io.github.kelari.atg.model.Cookie;
-import io.github.kelari.atg.model.SpecScenariosTest;
 import io.github.kelari.atg.process.handler.FluentMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
 
 import java.util.List;
 import java.util.Objects;
@@ -36,21 +36,18 @@ public class ExpectCookieHandler implements FluentMethodSpecHandler {
      *
      * @param statement the StringBuilder where the test method is being composed
      * @param args the list of arguments (used for templating in code generation)
-     * @param spec the specification containing all scenarios
-     * @param test the individual test case being processed
-     * @param fullPath the full endpoint path being tested (unused here)
+     * @param context the generation context of the test method
      */
     @Override
     public void handle(StringBuilder statement,
                        List<Object> args,
-                       SpecScenariosTest spec,
-                       CaseTest test,
-                       String fullPath) {
-        if (Objects.nonNull(test.getExpectedCookies())) {
-            for (Cookie cookie : test.getExpectedCookies()) {
+                       MethodSpecContext context) {
+        CaseTest test = context.test();
+        if (Objects.nonNull(test.expectedCookies())) {
+            for (Cookie cookie : test.expectedCookies()) {
                 statement.append("\n\t.expectCookie().valueEquals($S, $S)");
-                args.add(cookie.getName());
-                args.add(cookie.getValue());
+                args.add(cookie.name());
+                args.add(cookie.value());
             }
         }
     }
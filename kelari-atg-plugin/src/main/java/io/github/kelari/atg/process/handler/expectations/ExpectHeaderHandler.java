@@ -1,12 +1,12 @@
 package io.github.kelari.atg.process.handler.expectations;
 
-import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.ArrayTypeName;
 import io.github.kelari.atg.model.CaseTest;
 import io.github.kelari.atg.model.Header;
-import io.github.kelari.atg.model.SpecScenariosTest;
 import io.github.kelari.atg.process.handler.FluentMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.TestClassMembers;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -21,11 +21,13 @@ import java.util.stream.Collectors;
  *
  * <p>Example generated output:
  * <pre>{@code
- * .expectHeader().valueEquals("X-Custom-Header", "value1", "value2")
+ * private static final String[] X_CUSTOM_HEADER_HEADER_VALUES = {"value1", "value2"};
+ * ...
+ * .expectHeader().valueEquals("X-Custom-Header", X_CUSTOM_HEADER_HEADER_VALUES)
  * }</pre>
  *
- * <p>This class uses {@link CodeBlock} to build the comma-separated list of header values
- * for correct code generation via JavaPoet.
+ * <p>The expected values are hoisted into a {@code static final} array of the test class, shared by
+ * every test method expecting the same values, instead of a varargs array allocated on each execution.
  *
  * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
  * @since 1.0
@@ -33,29 +35,29 @@ import java.util.stream.Collectors;
  */
 public class ExpectHeaderHandler implements FluentMethodSpecHandler {
 
+    private static final ArrayTypeName STRING_ARRAY = ArrayTypeName.of(String.class);
+
     /**
      * Appends header assertions to the test method's statement builder if
      * any expected headers are defined in the test case.
      *
      * @param statement the builder accumulating the test method body
      * @param args the list of arguments to be used with code templates
-     * @param spec the scenario specification being processed
-     * @param test the individual test case
-     * @param fullPath the full endpoint path (not used directly in this handler)
+     * @param context the generation context of the test method
      */
     @Override
     public void handle(StringBuilder statement,
                        List<Object> args,
-                       SpecScenariosTest spec,
-                       CaseTest test,
-                       String fullPath) {
-        if (Objects.nonNull(test.getExpectedHeaders())) {
-            for (Header header : test.getExpectedHeaders()) {
+                       MethodSpecContext context) {
+        CaseTest test = context.test();
+        if (Objects.nonNull(test.expectedHeaders())) {
+            for (Header header : test.expectedHeaders()) {
                 statement.append("\n\t.expectHeader().valueEquals($S, $L)");
-                args.add(header.getName());
-                args.add(CodeBlock.of("$L", Arrays.stream(header.getValues())
-                        .map(s -> "\"" + s + "\"")
-                        .collect(Collectors.joining(", "))));
+                args.add(header.name());
+                args.add(context.members().constant(STRING_ARRAY,
+                        TestClassMembers.constantName(header.name(), "HEADER_VALUES"),
+                        header.values().stream().map(value -> "$S").collect(Collectors.joining(", ", "{", "}")),
+                        header.values().toArray()));
             }
         }
     }
@@ -0,0 +1,181 @@
+package io.github.kelari.atg.process.handler.expectations;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.WildcardTypeName;
+import io.github.kelari.atg.annotation.MatcherType;
+import io.github.kelari.atg.model.JsonPath;
+import io.github.kelari.atg.process.handler.FluentMethodSpecHandler;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.TestClassMembers;
+import io.github.kelari.atg.util.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fluent handler responsible for generating WebTestClient assertions
+ * based on JSONPath expressions defined in the test metadata.
+ *
+ * Supports a variety of matcher types including standard Hamcrest matchers,
+ * class instance checks, negations, and custom matcher injection.
+ *
+ * <p>Hamcrest matchers are immutable, so they are hoisted into {@code static final} fields of the
+ * test class (e.g., {@code private static final Matcher<?> USER_NAME_MATCHER = Matchers.equalTo("John");})
+ * and shared by every test method and repetition asserting the same path and value. Custom matchers
+ * are still created by each test method.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public class ExpectJsonPathHandler implements FluentMethodSpecHandler {
+
+    private static final TypeName MATCHER_TYPE =
+            ParameterizedTypeName.get(Constants.Imports.MATCHER, WildcardTypeName.subtypeOf(Object.class));
+
+    @Override
+    public void handle(StringBuilder statement,
+                       List<Object> args,
+                       MethodSpecContext context) {
+
+        List<JsonPath> paths = context.test().jsonPaths();
+        if (paths == null || paths.isEmpty()) return;
+
+        boolean first = true;
+
+        for (JsonPath jsonPath : paths) {
+            if (jsonPath.path().isBlank() || jsonPath.type() == null) continue;
+
+            if (first) {
+                statement.append("\n\t.expectBody()");
+                first = false;
+            }
+
+            statement.append("\n\t.jsonPath($S)");
+            args.add(jsonPath.path());
+
+            MatcherType type = jsonPath.type();
+            String value = jsonPath.value();
+            String matcherClass = jsonPath.matcherClass();
+
+            StringBuilder matcher = new StringBuilder();
+            List<Object> matcherArgs = new ArrayList<>();
+            switch (type) {
+                case NOT_NULL_VALUE -> {
+                    matcher.append("$T.notNullValue()");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                }
+                case NULL_VALUE -> {
+                    matcher.append("$T.nullValue()");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                }
+                case EQUAL_TO -> {
+                    matcher.append("$T.equalTo($S)");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(value);
+                }
+                case CONTAINS_STRING -> {
+                    matcher.append("$T.containsString($S)");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(value);
+                }
+                case STARTS_WITH -> {
+                    matcher.append("$T.startsWith($S)");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(value);
+                }
+                case ENDS_WITH -> {
+                    matcher.append("$T.endsWith($S)");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(value);
+                }
+                case GREATER_THAN -> {
+                    matcher.append("$T.greaterThan($L)");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(parseNumber(value));
+                }
+                case LESS_THAN -> {
+                    matcher.append("$T.lessThan($L)");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(parseNumber(value));
+                }
+                case INSTANCE_OF -> {
+                    try {
+                        Class<?> clazz = Class.forName(value);
+                        matcher.append("$T.instanceOf($T.class)");
+                        matcherArgs.add(org.hamcrest.Matchers.class);
+                        matcherArgs.add(clazz);
+                    } catch (ClassNotFoundException e) {
+                        throw new IllegalArgumentException("Class not found: " + value);
+                    }
+                }
+                case NOT -> {
+                    matcher.append("$T.not($T.equalTo($S))");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(value);
+                }
+                case ANY_OF -> {
+                    String[] values = value.split(",");
+                    matcher.append("$T.anyOf(");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    for (int i = 0; i < values.length; i++) {
+                        matcher.append("$T.equalTo($S)");
+                        matcherArgs.add(org.hamcrest.Matchers.class);
+                        matcherArgs.add(values[i].trim());
+                        if (i < values.length - 1) matcher.append(", ");
+                    }
+                    matcher.append(")");
+                }
+                case CONTAINS -> {
+                    String[] values = value.split(",");
+                    matcher.append("$T.contains(");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    for (int i = 0; i < values.length; i++) {
+                        matcher.append("$T.equalTo($S)");
+                        matcherArgs.add(org.hamcrest.Matchers.class);
+                        matcherArgs.add(values[i].trim());
+                        if (i < values.length - 1) matcher.append(", ");
+                    }
+                    matcher.append(")");
+                }
+                case HAS_ITEM -> {
+                    matcher.append("$T.hasItem($S)");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                    matcherArgs.add(value);
+                }
+                case CUSTOM_CLASS -> {
+                    if (matcherClass == null)
+                        throw new IllegalStateException("CUSTOM_CLASS requires a valid matcherClass.");
+                    matcher.append("new $T()");
+                    matcherArgs.add(ClassName.bestGuess(matcherClass));
+                }
+                default -> {
+                    matcher.append("$T.anything()");
+                    matcherArgs.add(org.hamcrest.Matchers.class);
+                }
+            }
+
+            if (type == MatcherType.CUSTOM_CLASS) {
+                // Custom matchers may hold state, so each test method creates its own
+                statement.append(".value(").append(matcher).append(")");
+                args.addAll(matcherArgs);
+            } else {
+                statement.append(".value($L)");
+                args.add(context.members().constant(MATCHER_TYPE,
+                        TestClassMembers.constantName(jsonPath.path(), "MATCHER"), matcher.toString(), matcherArgs.toArray()));
+            }
+        }
+    }
+
+    private static Number parseNumber(String input) {
+        try {
+            if (input.contains(".")) return Double.parseDouble(input);
+            return Integer.parseInt(input);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid numeric value: " + input);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package io.github.kelari.atg.process.helper;
+
+import io.github.kelari.atg.annotation.ApiTestCase;
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.util.CompilerLogger;
+
+/**
+ * Decodes the value of a single {@link ApiTestCase} attribute into a {@link CaseTest.Builder}.
+ *
+ * <p>Implementations are registered by attribute name in {@link ApiTestCaseAttributeRegistry}
+ * and invoked by {@link ApiTestCaseDecoder} with the raw value of the attribute, as returned by
+ * {@link javax.lang.model.element.AnnotationValue#getValue()}.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+@FunctionalInterface
+public interface ApiTestCaseAttributeDecoder {
+
+    /**
+     * Applies the attribute value to the test case.
+     *
+     * @param caseTest the builder of the test case being decoded
+     * @param value    the raw attribute value (boxed primitive, {@code String} or list of annotation values)
+     * @param logger   the logger used to report malformed values
+     */
+    void decode(CaseTest.Builder caseTest, Object value, CompilerLogger logger);
+}
@@ -0,0 +1,180 @@
+package io.github.kelari.atg.process.helper;
+
+import io.github.kelari.atg.annotation.ApiTestCase;
+import io.github.kelari.atg.annotation.MatcherType;
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.model.Cookie;
+import io.github.kelari.atg.model.Header;
+import io.github.kelari.atg.model.JsonPath;
+import io.github.kelari.atg.util.CompilerLogger;
+import io.github.kelari.atg.util.Constants;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.DeclaredType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link ApiTestCaseAttributeDecoder}s used to decode {@link ApiTestCase}
+ * attributes, keyed by attribute name.
+ *
+ * <p>All attributes declared by {@link ApiTestCase} are registered by default. Supporting a new
+ * attribute only requires registering its decoder; {@link ApiTestCaseDecoder} binds it to the
+ * attribute element the next time it is built.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class ApiTestCaseAttributeRegistry {
+
+    private static final Map<String, ApiTestCaseAttributeDecoder> DECODERS = new ConcurrentHashMap<>();
+
+    static {
+        register(Constants.AnnotationFileds.DISPLAY_NAME, (caseTest, value, logger) -> caseTest.displayName((String) value));
+        register(Constants.AnnotationFileds.ORDER, (caseTest, value, logger) -> caseTest.order((Integer) value));
+        register(Constants.AnnotationFileds.TIMEOUT, (caseTest, value, logger) -> caseTest.timeout((Integer) value));
+        register(Constants.AnnotationFileds.EXPECTED_STATUS_CODE, (caseTest, value, logger) -> caseTest.expectedStatusCode((Integer) value));
+        register(Constants.AnnotationFileds.REQUIRES_AUTH, (caseTest, value, logger) -> caseTest.requiresAuth((Boolean) value));
+        register(Constants.AnnotationFileds.REPEAT, (caseTest, value, logger) -> caseTest.repeat((Integer) value));
+        register(Constants.AnnotationFileds.ENABLE_LOGGING, (caseTest, value, logger) -> caseTest.enableLogging((Boolean) value));
+        register(Constants.AnnotationFileds.RESPONSE_TIMEOUT_SECONDS, (caseTest, value, logger) -> caseTest.responseTimeoutSeconds((Long) value));
+        register(Constants.AnnotationFileds.JSON_PATHS, ApiTestCaseAttributeRegistry::decodeJsonPaths);
+        register(Constants.AnnotationFileds.EXPECTED_HEADERS, ApiTestCaseAttributeRegistry::decodeExpectedHeaders);
+        register(Constants.AnnotationFileds.EXPECTED_COOKIES, ApiTestCaseAttributeRegistry::decodeExpectedCookies);
+        register(Constants.AnnotationFileds.DATA_PROVIDER_CLASS_NAME, ApiTestCaseAttributeRegistry::decodeDataProviderClassName);
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ApiTestCaseAttributeRegistry() {}
+
+    /**
+     * Registers (or replaces) the decoder of an {@link ApiTestCase} attribute.
+     *
+     * @param attributeName the attribute name, as declared in the annotation
+     * @param decoder       the decoder applied to the attribute value
+     */
+    public static void register(String attributeName, ApiTestCaseAttributeDecoder decoder) {
+        DECODERS.put(Objects.requireNonNull(attributeName), Objects.requireNonNull(decoder));
+    }
+
+    /**
+     * Returns the decoder registered for an attribute.
+     *
+     * @param attributeName the attribute name
+     * @return the decoder, or {@code null} if the attribute is unknown
+     */
+    public static ApiTestCaseAttributeDecoder get(String attributeName) {
+        return DECODERS.get(attributeName);
+    }
+
+    private static void decodeJsonPaths(CaseTest.Builder caseTest, Object value, CompilerLogger logger) {
+        if (!(value instanceof List<?> list)) {
+            logger.warning("Unexpected type for jsonPaths: " + value.getClass());
+            return;
+        }
+        for (Object item : list) {
+            if (item instanceof AnnotationValue annotationValue) {
+                AnnotationMirror mirror = (AnnotationMirror) annotationValue.getValue();
+                String path = null;
+                MatcherType matcherType = null;
+                String matcherValue = null;
+                String matcherClass = null;
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                    Object val = entry.getValue().getValue();
+                    switch (entry.getKey().getSimpleName().toString()) {
+                        case "path" -> path = (String) val;
+                        case "type" -> matcherType = MatcherType.valueOf(val.toString());
+                        case "value" -> matcherValue = (String) val;
+                        case "matcherClass" -> {
+                            if (val instanceof DeclaredType declaredType)
+                                matcherClass = declaredType.toString();
+                        }
+                    }
+                }
+                caseTest.jsonPaths(new JsonPath(path, matcherType, matcherValue, matcherClass));
+            }
+        }
+    }
+
+    private static void decodeExpectedHeaders(CaseTest.Builder caseTest, Object value, CompilerLogger logger) {
+        if (!(value instanceof List<?> list)) {
+            logger.warning("Unexpected type for expectedHeaders: " + value.getClass());
+            return;
+        }
+        for (Object item : list) {
+            if (item instanceof AnnotationValue annotationValue) {
+                AnnotationMirror mirror = (AnnotationMirror) annotationValue.getValue();
+                String headerName = null;
+                List<String> headerValues = new ArrayList<>();
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                    String key = entry.getKey().getSimpleName().toString();
+                    Object val = entry.getValue().getValue();
+                    if ("name".equals(key) && val instanceof String nameVal)
+                        headerName = nameVal;
+                    else if ("value".equals(key)) {
+                        if (val instanceof List<?> valuesList) {
+                            for (Object valElement : valuesList) {
+                                if (valElement instanceof AnnotationValue element)
+                                    headerValues.add(element.getValue().toString());
+                            }
+                        } else if (val instanceof String singleVal)
+                            headerValues.add(singleVal);
+                    }
+                }
+                if (headerName != null && !headerValues.isEmpty())
+                    caseTest.expectedHeaders(new Header(headerName, headerValues.toArray(new String[0])));
+                else
+                    logger.warning("Missing name or value(s) in expectedHeader.");
+            }
+        }
+    }
+
+    private static void decodeExpectedCookies(CaseTest.Builder caseTest, Object value, CompilerLogger logger) {
+        if (!(value instanceof List<?> list)) {
+            logger.warning("Unexpected type for expectedCookies: " + value.getClass());
+            return;
+        }
+        for (Object item : list) {
+            if (item instanceof AnnotationValue annotationValue) {
+                AnnotationMirror mirror = (AnnotationMirror) annotationValue.getValue();
+                String cookieName = null;
+                String cookieValue = null;
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                    String key = entry.getKey().getSimpleName().toString();
+                    String val = entry.getValue().getValue().toString();
+                    if ("name".equals(key))
+                        cookieName = val;
+                    else if ("value".equals(key))
+                        cookieValue = val;
+                }
+                if (cookieName != null && cookieValue != null)
+                    caseTest.expectedCookies(new Cookie(cookieName, cookieValue));
+                else
+                    logger.warning("Missing name or value in expectedCookie.");
+            }
+        }
+    }
+
+    private static void decodeDataProviderClassName(CaseTest.Builder caseTest, Object value, CompilerLogger logger) {
+        if (value instanceof List<?> list) {
+            if (!list.isEmpty()) {
+                Object first = ((AnnotationValue) list.get(0)).getValue();
+                if (first instanceof String className)
+                    caseTest.dataProviderClassName(className);
+                else
+                    logger.warning("Expected String in list for dataProviderClassName, but got: " + first);
+            }
+        } else if (value instanceof String className)
+            caseTest.dataProviderClassName(className);
+        else
+            logger.warning("Unexpected type for dataProviderClassName: " + value.getClass());
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.kelari.atg.process.helper;
+
+import io.github.kelari.atg.annotation.ApiTestCase;
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.util.CompilerLogger;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes {@link ApiTestCase} annotation mirrors into {@link CaseTest} builders.
+ *
+ * <p>The attribute elements of the annotation type, their default values and their
+ * {@link ApiTestCaseAttributeDecoder}s are resolved once, when the decoder is built. Decoding a
+ * scenario is then a single pass over the explicitly set values, followed by the defaults of the
+ * attributes that were not set.</p>
+ *
+ * <p>A decoder is bound to the {@link TypeElement} of one compilation and must be rebuilt for
+ * the next one (see {@link #isBoundTo(Element)}).</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class ApiTestCaseDecoder {
+
+    private final TypeElement annotationType;
+    private final Map<ExecutableElement, Binding> bindings = new HashMap<>();
+    private final List<Binding> defaults = new ArrayList<>();
+
+    private ApiTestCaseDecoder(TypeElement annotationType) {
+        this.annotationType = annotationType;
+    }
+
+    /**
+     * Resolves the attributes of the {@link ApiTestCase} annotation type.
+     *
+     * @param annotationType the {@code ApiTestCase} type element of the current compilation
+     * @param logger         the logger used to report attributes without a registered decoder
+     * @return the decoder
+     */
+    public static ApiTestCaseDecoder of(TypeElement annotationType, CompilerLogger logger) {
+        ApiTestCaseDecoder decoder = new ApiTestCaseDecoder(annotationType);
+        int index = 0;
+        for (Element enclosedElement : annotationType.getEnclosedElements()) {
+            if (enclosedElement.getKind() != ElementKind.METHOD)
+                continue;
+            ExecutableElement attribute = (ExecutableElement) enclosedElement;
+            String name = attribute.getSimpleName().toString();
+            ApiTestCaseAttributeDecoder attributeDecoder = ApiTestCaseAttributeRegistry.get(name);
+            if (attributeDecoder == null) {
+                logger.warning("Unknown field: " + name);
+                continue;
+            }
+            Binding binding = new Binding(index++, name, attributeDecoder, attribute.getDefaultValue());
+            decoder.bindings.put(attribute, binding);
+            decoder.defaults.add(binding);
+        }
+        return decoder;
+    }
+
+    /**
+     * Checks whether this decoder was built for the given annotation type element. Type elements
+     * are not shared across compilations, so a different instance means a new compilation.
+     *
+     * @param annotationType the {@code ApiTestCase} type element of a scenario mirror
+     * @return {@code true} if this decoder can decode mirrors of that type
+     */
+    public boolean isBoundTo(Element annotationType) {
+        return this.annotationType == annotationType;
+    }
+
+    /**
+     * Decodes a single {@link ApiTestCase} mirror.
+     *
+     * @param scenario the annotation mirror of the scenario
+     * @param logger   the logger used to report malformed values
+     * @return the builder of the decoded test case, still lacking the method parameters
+     */
+    public CaseTest.Builder decode(AnnotationMirror scenario, CompilerLogger logger) {
+        CaseTest.Builder caseTest = CaseTest.builder();
+        boolean[] present = new boolean[defaults.size()];
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : scenario.getElementValues().entrySet()) {
+            Binding binding = bindings.get(entry.getKey());
+            if (binding == null)
+                continue;
+            present[binding.index()] = true;
+            binding.decoder().decode(caseTest, entry.getValue().getValue(), logger);
+        }
+        for (Binding binding : defaults) {
+            if (present[binding.index()])
+                continue;
+            if (binding.defaultValue() == null)
+                logger.warning("Null value for field: " + binding.name());
+            else
+                binding.decoder().decode(caseTest, binding.defaultValue().getValue(), logger);
+        }
+        return caseTest;
+    }
+
+    private record Binding(int index, String name, ApiTestCaseAttributeDecoder decoder, AnnotationValue defaultValue) {}
+}
@@ -0,0 +1,258 @@
+package io.github.kelari.atg.process.helper;
+
+import com.squareup.javapoet.*;
+import io.github.kelari.atg.model.*;
+import io.github.kelari.atg.process.emitter.DirectTestMethodWriter;
+import io.github.kelari.atg.process.handler.ClientNameResolver;
+import io.github.kelari.atg.process.handler.FluentMethodSpecHandlerChain;
+import io.github.kelari.atg.process.handler.MethodSpecContext;
+import io.github.kelari.atg.process.handler.MethodSpecHandlerChain;
+import io.github.kelari.atg.process.handler.TestClassMembers;
+import io.github.kelari.atg.process.handler.annotations.DisplayNameHandler;
+import io.github.kelari.atg.process.handler.annotations.OrderHandler;
+import io.github.kelari.atg.process.handler.annotations.RepeatHandler;
+import io.github.kelari.atg.process.handler.annotations.TimeoutHandler;
+import io.github.kelari.atg.process.handler.client.*;
+import io.github.kelari.atg.process.handler.expectations.ExpectCookieHandler;
+import io.github.kelari.atg.process.handler.expectations.ExpectHeaderHandler;
+import io.github.kelari.atg.process.handler.expectations.ExpectJsonPathHandler;
+import io.github.kelari.atg.util.Constants;
+
+import javax.lang.model.element.Modifier;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Helper class responsible for generating test methods dynamically using JavaPoet,
+ * particularly for WebTestClient-based integration tests. It provides utilities for
+ * generating authentication methods and endpoint tests.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ *
+ */
+public class ClassGenerationHelper {
+
+    private static final Map<Integer, String> STATUS_METHODS = createStatusMethodsMap();
+
+    private static Map<Integer, String> createStatusMethodsMap() {
+        Map<Integer, String> map = new HashMap<>();
+        map.put(200, Constants.StatusMethods.IS_OK);
+        map.put(201, Constants.StatusMethods.IS_CREATED);
+        map.put(204, Constants.StatusMethods.IS_NO_CONTENT);
+        map.put(400, Constants.StatusMethods.IS_BAD_REQUEST);
+        map.put(401, Constants.StatusMethods.IS_UNAUTHORIZED);
+        map.put(403, Constants.StatusMethods.IS_FORBIDDEN);
+        map.put(404, Constants.StatusMethods.IS_NOT_FOUND);
+        map.put(500, Constants.StatusMethods.IS_5xx_SERVER_ERROR);
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static final TypeName REQUEST_SPEC = ParameterizedTypeName.get(
+            Constants.Imports.WEB_TEST_CLIENT.nestedClass("RequestHeadersSpec"), WildcardTypeName.subtypeOf(Object.class));
+
+    private static final List<ParameterSpec> REQUEST_HELPER_PARAMETERS = List.of(
+            ParameterSpec.builder(Constants.Imports.WEB_TEST_CLIENT, "client").build(),
+            ParameterSpec.builder(ParameterizedTypeName.get(Constants.Imports.MAP, ClassName.get(String.class), ClassName.get(Object.class)), "data").build());
+
+    private static final Function<Integer, String> EXPECT_STATUS_METHOD =
+            code -> STATUS_METHODS.getOrDefault(code, Constants.StatusMethods.DEFAULT);
+
+    // Built once: handlers are stateless and shared by every generated test method
+    private static final MethodSpecHandlerChain METHOD_SPEC_HANDLERS = MethodSpecHandlerChain.withProviders(
+            new RepeatHandler(),
+            new TimeoutHandler(),
+            new OrderHandler(),
+            new DisplayNameHandler(),
+            new DataLoadHandler());
+
+    // Builds the request of an endpoint, in the request helper method shared by its test methods
+    private static final FluentMethodSpecHandlerChain REQUEST_SPEC_HANDLERS = FluentMethodSpecHandlerChain.of(
+            new UriHandler(),
+            new HeaderHandler(),
+            new CookieHandler(),
+            new BodyHandler());
+
+    private static final FluentMethodSpecHandlerChain FLUENT_METHOD_SPEC_HANDLERS = FluentMethodSpecHandlerChain.withProviders(
+            new AuthHandler(),
+            new ExchangeHandler(),
+            new ExpectCookieHandler(),
+            new ExpectHeaderHandler(),
+            new ExpectJsonPathHandler());
+
+    /**
+     * Generates the method returning the {@code Authorization} header value of the tests. The token is
+     * taken from the JVM-wide {@code BearerTokenCache}, shared by every test and generated class
+     * authenticating with the same {@code WebTestClient}, URL, username and password; the {@code login}
+     * method is only called when the cache has no valid token. The generated class thus keeps no mutable state, and its test methods
+     * may run concurrently.
+     *
+     * @param authUrl             the authentication endpoint URL; when empty, the method returns an empty value
+     * @param username            the username to use for authentication
+     * @param password            the password to use for authentication
+     * @param access              the access modifier of the method ({@code private}, or {@code protected} in a base class)
+     * @return a {@link MethodSpec} representing the generated bearer token method
+     * @see #generateLoginMethod(String, String, String, String)
+     */
+    public static MethodSpec generateBearerTokenMethod(String authUrl, String username, String password, Modifier access) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder(Constants.ATTRIBUTE_CLASS_TEST_BEARER_TOKEN)
+                .addModifiers(access)
+                .returns(String.class);
+        if (authUrl.isEmpty())
+            return method.addStatement("return $S", "").build();
+        return method.addStatement("return $S + $T.token($L, $S, $S, $S, this::login)",
+                        "Bearer ", Constants.Imports.BEARER_TOKEN_CACHE, Constants.WEB_TEST_CLIENT_CLASS_INSTANCE_NAME,
+                        authUrl, username, password)
+                .build();
+    }
+
+    /**
+     * Generates the method logging in with WebTestClient and returning the raw token read from the response.
+     *
+     * @param authUrl             the authentication endpoint URL
+     * @param username            the username to use for authentication
+     * @param password            the password to use for authentication
+     * @param parameterTokenName  the JSON path name of the token in the response
+     * @return a {@link MethodSpec} representing the generated login method
+     */
+    public static MethodSpec generateLoginMethod(String authUrl, String username, String password, String parameterTokenName) {
+        return MethodSpec.methodBuilder("login")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(String.class)
+                .addCode(CodeBlock.builder()
+                        .addStatement("$T<String, String> credentials = new $T<>()", Map.class, HashMap.class)
+                        .addStatement("credentials.put($S, $S)", "username", username)
+                        .addStatement("credentials.put($S, $S)", "password", password)
+                        .addStatement("$T<String> token = new $T<>()", Constants.Imports.ATOMIC_REFERENCE, Constants.Imports.ATOMIC_REFERENCE)
+                        .addStatement("webTestClient.post()\n" +
+                                        "               .uri($S)\n" +
+                                        "               .contentType($T.APPLICATION_JSON)\n" +
+                                        "               .body($T.just(credentials), $T.class)\n" +
+                                        "               .exchange()\n" +
+                                        "               .expectStatus()\n" +
+                                        "               .is2xxSuccessful()\n" +
+                                        "               .expectBody()\n" +
+                                        "               .jsonPath($S)\n" +
+                                        "               .value(value -> token.set(String.valueOf(value)))",
+                                authUrl,
+                                Constants.Imports.MEDIA_TYPE,
+                                Constants.Imports.MONO,
+                                Constants.Imports.MAP,
+                                "$." + parameterTokenName)
+                        .addStatement("return token.get()")
+                        .build())
+                .build();
+    }
+
+    /**
+     * Generates a test method for a given {@link SpecScenariosTest} and {@link CaseTest},
+     * constructing the WebTestClient invocation dynamically based on HTTP method, expected
+     * status, and parameter metadata.
+     *
+     * @param spec      the specification scenario describing the endpoint and method
+     * @param test      the test case containing expected results and parameter values
+     * @param fullPath  the full URI path of the endpoint to be tested
+     * @param members   the class-level members of the generated class, receiving the hoisted constants
+     *                  and the request helper of the endpoint
+     * @return a {@link MethodSpec} representing the dynamically generated test method
+     */
+    public static MethodSpec generateTestMethod(SpecScenariosTest spec, CaseTest test, String fullPath, TestClassMembers members) {
+        MethodSpecContext context = createContext(spec, test, fullPath, members);
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(testMethodName(context))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(void.class);
+
+        CodeBlock.Builder codeBlock = CodeBlock.builder();
+        METHOD_SPEC_HANDLERS.applyAll(builder, codeBlock, context);
+
+        List<Object> args = new ArrayList<>();
+        String statement = buildFluentStatement(context, args);
+        codeBlock.addStatement(statement, args.toArray());
+        builder.addCode(codeBlock.build());
+
+        return builder.build();
+    }
+
+    /**
+     * Generates the same test method as {@link #generateTestMethod(SpecScenariosTest, CaseTest, String, TestClassMembers)}
+     * for the direct emitter, which formats it without JavaPoet.
+     *
+     * @param spec      the specification scenario describing the endpoint and method
+     * @param test      the test case containing expected results and parameter values
+     * @param fullPath  the full URI path of the endpoint to be tested
+     * @param members   the class-level members of the generated class
+     * @return the compiled test method
+     * @throws IllegalStateException if a registered handler does not support the direct emitter
+     * @see #supportsDirectEmitter()
+     */
+    public static DirectTestMethodWriter generateDirectTestMethod(SpecScenariosTest spec, CaseTest test, String fullPath,
+                                                                  TestClassMembers members) {
+        MethodSpecContext context = createContext(spec, test, fullPath, members);
+
+        DirectTestMethodWriter writer = new DirectTestMethodWriter(testMethodName(context));
+        METHOD_SPEC_HANDLERS.writeAll(writer, context);
+
+        List<Object> args = new ArrayList<>();
+        String statement = buildFluentStatement(context, args);
+        writer.addStatement(statement, args.toArray());
+
+        return writer;
+    }
+
+    /**
+     * Checks whether the test methods can be generated with the direct emitter, which requires
+     * every registered {@link io.github.kelari.atg.process.handler.MethodSpecHandler} to be a
+     * {@link io.github.kelari.atg.process.handler.DirectMethodSpecHandler}.
+     *
+     * @return {@code true} if {@link #generateDirectTestMethod(SpecScenariosTest, CaseTest, String, TestClassMembers)} can be used
+     */
+    public static boolean supportsDirectEmitter() {
+        return METHOD_SPEC_HANDLERS.supportsDirectEmitter();
+    }
+
+    private static MethodSpecContext createContext(SpecScenariosTest spec, CaseTest test, String fullPath, TestClassMembers members) {
+        String httpMethod = spec.httpMethod().toLowerCase();
+        return new MethodSpecContext(spec, test, fullPath, httpMethod, EXPECT_STATUS_METHOD.apply(test.expectedStatusCode()), members);
+    }
+
+    private static String testMethodName(MethodSpecContext context) {
+        return String.format("%s_%d", context.spec().methodName(), context.test().expectedStatusCode());
+    }
+
+    /**
+     * Builds the fluent {@code WebTestClient} call of a test method: the request built by the request
+     * helper of the endpoint, then the exchange and the expectations.
+     *
+     * @param context the generation context of the test method
+     * @param args    receives the arguments of the returned format
+     * @return the format of the statement
+     */
+    private static String buildFluentStatement(MethodSpecContext context, List<Object> args) {
+        StringBuilder statement = new StringBuilder("$L($L, data)");
+        args.add(requestHelper(context));
+        args.add(ClientNameResolver.resolve(context));
+
+        FLUENT_METHOD_SPEC_HANDLERS.applyAll(statement, args, context);
+        return statement.toString();
+    }
+
+    /**
+     * Declares the helper method building the request of an endpoint, such as
+     * {@code getUserRequest(WebTestClient client, Map<String, Object> data)}, and returns its name.
+     * Every test method of the endpoint calls the same helper, unless its request differs.
+     *
+     * @param context the generation context of the test method
+     * @return the name of the request helper method
+     */
+    private static String requestHelper(MethodSpecContext context) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder statement = new StringBuilder("return client\n\t.$L()");
+        args.add(context.httpMethod());
+
+        REQUEST_SPEC_HANDLERS.applyAll(statement, args, context);
+        return context.members().method(REQUEST_SPEC, context.spec().methodName() + "Request", REQUEST_HELPER_PARAMETERS,
+                statement.toString(), args.toArray());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,225 @@
+package io.github.kelari.atg.process.helper;
+
+import io.github.kelari.atg.annotation.ApiTestSpec;
+import io.github.kelari.atg.annotation.KelariGenerateApiTest;
+import io.github.kelari.atg.model.*;
+import io.github.kelari.atg.process.AnnotationIndex;
+import io.github.kelari.atg.process.AnnotationMetadataExtractor;
+import io.github.kelari.atg.process.ExtractionContext;
+
+import javax.lang.model.element.*;
+import java.util.*;
+
+/**
+ * Helper class that provides utility methods for analyzing Java syntax trees
+ * and extracting metadata from annotated elements, especially for classes
+ * annotated with {@link KelariGenerateApiTest}.
+ *
+ * <p>The helper is stateless: everything scoped to a compilation (logger, annotation index,
+ * decoders) comes from the {@link ExtractionContext} passed to each method, so the singleton
+ * can be shared by compilations running concurrently in the same JVM.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ *
+ */
+public final class KelariTreeScannerHelper {
+
+    private static final KelariTreeScannerHelper INSTANCE = new KelariTreeScannerHelper();
+
+    private KelariTreeScannerHelper() {}
+
+    /**
+     * Returns the singleton instance of {@code KelariTreeScannerHelper}.
+     *
+     * @return singleton instance
+     */
+    public static KelariTreeScannerHelper getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a {@link ClassTest} builder based on the provided element and annotation metadata.
+     * The class annotations are read from their mirrors in a single pass.
+     *
+     * @param className       the name of the class
+     * @param packageName     the package name of the class
+     * @param element         the annotated element representing the class
+     * @param context         the extraction context of the current compilation
+     * @return a {@link ClassTest} builder holding the class metadata, to which scenarios are added
+     */
+    public ClassTest.Builder createClassTest(String className, String packageName, Element element, ExtractionContext context) {
+        ClassTest.Builder classTest = ClassTest.builder()
+                .name(className.concat("GeneratedTest"))
+                .packageName(packageName);
+
+        AnnotationIndex annotationIndex = context.getAnnotationIndex();
+        AnnotationMirror annotation = annotationIndex.findKelariGenerateApiTest(element);
+
+        for (AnnotationMirror anno : element.getAnnotationMirrors()) {
+            if (annotationIndex.isRequestMapping(anno))
+                classTest.pathBase(AnnotationMetadataExtractor.extractUri(anno));
+        }
+
+        if (Objects.nonNull(annotation)) {
+            String authUrl = null;
+            String username = null;
+            String password = null;
+            String parameterTokenName = null;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationIndex.getElementValuesWithDefaults(annotation).entrySet()) {
+                Object value = entry.getValue().getValue();
+                switch (entry.getKey().getSimpleName().toString()) {
+                    case "authUrl" -> authUrl = (String) value;
+                    case "username" -> username = (String) value;
+                    case "password" -> password = (String) value;
+                    case "parameterTokenName" -> parameterTokenName = (String) value;
+                    case "concurrent" -> classTest.concurrent((Boolean) value);
+                }
+            }
+            if (Objects.nonNull(authUrl) && Objects.nonNull(password) && Objects.nonNull(username))
+                classTest.authTest(new AuthTest(authUrl, username, password, parameterTokenName));
+        }
+
+        return classTest;
+    }
+
+    /**
+     * Processes the parameters of a method element and extracts metadata
+     * about each parameter, grouping them by their annotation type.
+     *
+     * @param methodElement   the element representing the method
+     * @param context         the extraction context of the current compilation
+     * @return metadata for method parameters as {@link ParameterMetadataTest}
+     */
+    public ParameterMetadataTest processMethodParameters(Element methodElement, ExtractionContext context) {
+        AnnotationIndex annotationIndex = context.getAnnotationIndex();
+        ParameterMetadataTest.Builder metadata = ParameterMetadataTest.builder();
+        if (methodElement instanceof ExecutableElement) {
+            List<? extends VariableElement> params = ((ExecutableElement) methodElement).getParameters();
+            for (VariableElement parameter : params) {
+                String paramName = parameter.getSimpleName().toString();
+                String paramType = parameter.asType().toString();
+                boolean hasRelevantAnnotation = false;
+
+                for (AnnotationMirror annotation : parameter.getAnnotationMirrors()) {
+                    hasRelevantAnnotation = true;
+                    AnnotationIndex.ParameterKind kind = annotationIndex.parameterKindOf(annotation);
+                    if (kind == null)
+                        continue;
+                    switch (kind) {
+                        case PATH_VARIABLE -> metadata.pathParam(paramName, paramType);
+                        case REQUEST_PARAM -> metadata.queryParam(paramName, paramType);
+                        case REQUEST_HEADER -> {
+                            String headerName = paramName;
+                            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                                String attr = entry.getKey().getSimpleName().toString();
+                                if ("value".equals(attr) || "name".equals(attr)) {
+                                    headerName = entry.getValue().getValue().toString();
+                                    break;
+                                }
+                            }
+                            metadata.headerParam(headerName, paramType);
+                        }
+                        case REQUEST_BODY, MODEL_ATTRIBUTE -> metadata.body(paramName, paramType);
+                        case COOKIE_VALUE -> metadata.cookieParam(paramName, paramType);
+                        case MATRIX_VARIABLE -> {
+                            String name = null;
+                            String pathVar = null;
+                            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                                String attributeName = entry.getKey().getSimpleName().toString();
+                                Object value = entry.getValue().getValue();
+                                if ("name".equals(attributeName))
+                                    name = value.toString();
+                                else if ("pathVar".equals(attributeName))
+                                    pathVar = value.toString();
+                            }
+                            MatrixParamMetadata matrixParam = new MatrixParamMetadata(paramName, name, pathVar, paramType);
+                            metadata.matrixParam(matrixParam.pathVar(), matrixParam.name(), matrixParam.type());
+                        }
+                        case REQUEST_PART -> {
+                            metadata.body(paramName, paramType).multipart(true);
+                        }
+                    }
+                }
+
+                if (!hasRelevantAnnotation) {
+                    metadata.body(paramName, paramType);
+                }
+            }
+        }
+        return metadata.build();
+    }
+
+    /**
+     * Extracts HTTP method, path and method name from a method element
+     * into a {@link SpecScenariosTest} builder.
+     *
+     * @param methodElement   the element representing the annotated method
+     * @param context         the extraction context of the current compilation
+     * @return a {@link SpecScenariosTest} builder holding the endpoint metadata
+     */
+    public SpecScenariosTest.Builder createSpecScenariosTest(Element methodElement, ExtractionContext context) {
+        SpecScenariosTest.Builder specScenariosTest = SpecScenariosTest.builder()
+                .methodName(methodElement.getSimpleName().toString());
+        for (AnnotationMirror annotation : methodElement.getAnnotationMirrors()) {
+            String httpMethod = context.getAnnotationIndex().httpMethodOf(annotation);
+            if (httpMethod != null) {
+                specScenariosTest.httpMethod(httpMethod)
+                        .pathMethod(AnnotationMetadataExtractor.extractUri(annotation));
+            }
+        }
+        return specScenariosTest;
+    }
+
+    /**
+     * Extracts the complete {@link SpecScenariosTest} of a method element: the endpoint metadata
+     * and every test case declared by its {@link ApiTestSpec}. Shared by the compiler plugin and
+     * the annotation processor.
+     *
+     * @param methodElement   the element representing the method
+     * @param context         the extraction context of the current compilation
+     * @return the scenarios of the method; without test cases if the method declares none
+     */
+    public SpecScenariosTest extractSpecScenariosTest(Element methodElement, ExtractionContext context) {
+        SpecScenariosTest.Builder specScenariosTest = createSpecScenariosTest(methodElement, context);
+        List<CaseTest.Builder> caseTests = processApiTestSpecAndApiTestCase(methodElement, context);
+        if (!caseTests.isEmpty()) {
+            // Parameters depend on the method only: extracted once and shared by all its scenarios
+            ParameterMetadataTest methodParameters = processMethodParameters(methodElement, context);
+            for (CaseTest.Builder caseTest : caseTests)
+                specScenariosTest.caseTest(caseTest.methodParameters(methodParameters).build());
+        }
+        return specScenariosTest.build();
+    }
+
+    /**
+     * Processes the {@link ApiTestSpec} annotation present on the method element
+     * and decodes all defined test cases.
+     *
+     * @param methodElement   the method element annotated with {@link ApiTestSpec}
+     * @param context         the extraction context of the current compilation
+     * @return the builders of the test cases, in declaration order; empty if the method has none
+     */
+    @SuppressWarnings("unchecked")
+    public List<CaseTest.Builder> processApiTestSpecAndApiTestCase(Element methodElement, ExtractionContext context) {
+        List<CaseTest.Builder> caseTests = new ArrayList<>(0);
+        for (AnnotationMirror annotation : methodElement.getAnnotationMirrors()) {
+            if (context.getAnnotationIndex().isApiTestSpec(annotation)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("scenarios")) {
+                        List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) entry.getValue().getValue();
+                        for (AnnotationValue av : values) {
+                            AnnotationMirror scenarioAnnotation = (AnnotationMirror) av.getValue();
+                            TypeElement annotationType = (TypeElement) scenarioAnnotation.getAnnotationType().asElement();
+                            caseTests.add(context.getApiTestCaseDecoder(annotationType).decode(scenarioAnnotation, context.getLogger())
+                                    .dataProviderInstantiable(context.getAnnotationIndex()::isInstantiableDataLoad));
+                        }
+                    }
+                }
+            }
+        }
+        return caseTests;
+    }
+
+}
\ No newline at end of file
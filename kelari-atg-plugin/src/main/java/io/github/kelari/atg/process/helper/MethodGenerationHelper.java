@@ -2,7 +2,9 @@ package io.github.kelari.atg.process.helper;
 
 import io.github.kelari.atg.model.ParameterMetadataTest;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,15 +43,13 @@ public final class MethodGenerationHelper {
             return false;
         if (params == null)
             return false;
-        return params.isMultipart() || params.getBody().values().stream()
-                .anyMatch(value -> {
-                    String className = String.valueOf(value);
-                    return className.contains("MultipartFile") || className.contains("Resource") || className.contains("byte[]");
-                });
+        return params.multipart() || params.hasBinaryBody();
     }
 
     /**
-     * Replaces path variables in the given path template with matrix parameter segments.
+     * Replaces path variables in the given path template with matrix parameter segments, each matrix
+     * parameter being a URI variable of its own (e.g., {@code /products/{filters}} becomes
+     * {@code /products/filters;color={color};size={size}}).
      *
      * @param pathTemplate the URI path template containing placeholders (e.g., "/products/{filters}")
      * @param matrixParams a map where each key is a path variable name and its value is a map of matrix parameters
@@ -61,13 +61,8 @@ public final class MethodGenerationHelper {
             String pathVar = entry.getKey(); // e.g., "filters"
             Map<String, String> params = entry.getValue(); // e.g., {color=..., size=...}
             StringBuilder segment = new StringBuilder(pathVar);
-            for (Map.Entry<String, String> paramEntry : params.entrySet()) {
-                segment.append(";")
-                        .append(paramEntry.getKey())
-                        .append("=\" + safeString(data.get(\"")
-                        .append(paramEntry.getKey())
-                        .append("\")) + \"");
-            }
+            for (String param : params.keySet())
+                segment.append(";").append(param).append("={").append(param).append("}");
             pathTemplate = pathTemplate.replace("{" + pathVar + "}", segment.toString());
         }
 
@@ -75,53 +70,58 @@ public final class MethodGenerationHelper {
     }
 
     /**
-     * Builds a complete URI expression by processing path parameters, query parameters,
-     * and matrix parameters into a concatenated string suitable for runtime evaluation.
+     * Builds the URI template of an endpoint: the path with its matrix parameters, followed by the
+     * query parameters, every parameter being a URI variable (e.g., {@code /items/{category}?page={page}}).
+     * The template is a compile-time constant; the values are passed to {@code uri(String, Object...)}
+     * and encoded by the {@code WebTestClient}.
      *
      * @param pathTemplate the URI path template (e.g., "/items/{category}")
-     * @param pathParams a map of path parameters to be replaced
      * @param queryParams a map of query parameters to be appended
      * @param matrixParams a map of matrix parameter groups for specific path variables
-     * @return the final URI expression as a Java string with concatenations for runtime value injection
+     * @return the URI template and its variables
      */
-    public static String prepareUriExpression(
+    public static UriTemplate prepareUriTemplate(
             String pathTemplate,
-            Map<String, String> pathParams,
             Map<String, String> queryParams,
             Map<String, Map<String, String>> matrixParams
     ) {
-        // First apply Matrix Variables to {pathVar}
-        pathTemplate = generatePathWithMatrixParams(pathTemplate, matrixParams);
-        // Starts with the string in quotes
-        StringBuilder uriExpr = new StringBuilder("\"" + pathTemplate + "\"");
-        // Replace {param} in path with concatenations with safeString(data.get("param"))
-        if (pathParams != null && !pathParams.isEmpty()) {
-            for (Map.Entry<String, String> entry : pathParams.entrySet()) {
-                String key = entry.getKey();
-                int start = uriExpr.indexOf("{" + key + "}");
-                if (start != -1) {
-                    int end = start + key.length() + 2;
-                    uriExpr.replace(start, end, "\" + safeString(data.get(\"" + key + "\")) + \"");
-                }
-            }
-        }
-        // Add query parameters with safe concatenation
+        StringBuilder template = new StringBuilder(generatePathWithMatrixParams(pathTemplate, matrixParams));
         if (queryParams != null && !queryParams.isEmpty()) {
-            uriExpr.append(" + \"?");
-            boolean first = true;
+            char separator = '?';
             for (String key : queryParams.keySet()) {
-                if (!first)
-                    uriExpr.append("&");
-                uriExpr.append(key).append("=\" + safeString(data.get(\"").append(key).append("\"))");
-                first = false;
+                template.append(separator).append(key).append("={").append(key).append('}');
+                separator = '&';
             }
         }
-        // Final cleaning
-        String finalExpr = uriExpr.toString()
-                .replace("+ \"\"", "")
-                .replace("\"\" +", "");
-        if (finalExpr.endsWith("+ "))
-            finalExpr = finalExpr.substring(0, finalExpr.length() - 2);
-        return finalExpr;
+        return new UriTemplate(template.toString(), uriVariables(template));
     }
-}
\ No newline at end of file
+
+    /**
+     * Lists the variables of a URI template in the order they are expanded, which is the order they
+     * appear in. A variable with a pattern ({@code {id:\d+}}) is named by the part before the colon.
+     */
+    private static List<String> uriVariables(CharSequence template) {
+        List<String> variables = new ArrayList<>();
+        int start = -1;
+        int depth = 0;
+        for (int i = 0; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '{' && depth++ == 0) {
+                start = i + 1;
+            } else if (c == '}' && depth > 0 && --depth == 0) {
+                String variable = template.subSequence(start, i).toString();
+                int colon = variable.indexOf(':');
+                variables.add((colon == -1 ? variable : variable.substring(0, colon)).trim());
+            }
+        }
+        return variables;
+    }
+
+    /**
+     * URI template of an endpoint.
+     *
+     * @param template  the template, with a {@code {name}} placeholder for each variable
+     * @param variables the names of the variables, in expansion order; a name may repeat
+     */
+    public record UriTemplate(String template, List<String> variables) {}
+}
@@ -0,0 +1,87 @@
+package io.github.kelari.atg.processor;
+
+import io.github.kelari.atg.model.ClassTest;
+import io.github.kelari.atg.process.TestSourceSink;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link TestSourceSink} handing the generated sources to the {@link Filer} of an annotation
+ * processing environment, each one tied to the controller it was generated from.
+ *
+ * <p>The sources are created as resources under {@code kelari/} in the source output location
+ * (e.g., {@code kelari/com/example/ExampleResourceGeneratedTest.java}) rather than as source files:
+ * they depend on the test classpath, so they must not be compiled along with the main sources.
+ * The build adds that directory to the test source set. The shards of a split test class share
+ * the originating element of the test class, and stale shards are deleted by the build tool along
+ * with the other outputs of the controller.</p>
+ *
+ * <p>Like the source directory sink, the sources are always encoded in UTF-8. The {@code Filer}
+ * is not thread-safe, so this sink must only be used for synchronous generation.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class FilerTestSourceSink implements TestSourceSink {
+
+    /** Directory of the generated sources, relative to the source output location. */
+    public static final String OUTPUT_DIRECTORY = "kelari";
+
+    private final Filer filer;
+    private final Map<String, Element> originatingElements = new HashMap<>();
+
+    /**
+     * Creates a sink writing through the given {@code Filer}.
+     *
+     * @param filer the filer of the processing environment
+     */
+    public FilerTestSourceSink(Filer filer) {
+        this.filer = Objects.requireNonNull(filer);
+    }
+
+    /**
+     * Records the element a test class is generated from, reported to the {@code Filer}
+     * as the originating element of its source.
+     *
+     * @param classTest         the test class
+     * @param originatingElement the annotated controller type
+     */
+    public void originatingElement(ClassTest classTest, Element originatingElement) {
+        originatingElements.put(classTest.qualifiedName(), originatingElement);
+    }
+
+    @Override
+    public boolean write(ClassTest classTest, String className, Source source) throws IOException {
+        String relativeName = relativeName(classTest, className);
+        Element originatingElement = originatingElements.get(classTest.qualifiedName());
+        FileObject file = Objects.nonNull(originatingElement)
+                ? filer.createResource(StandardLocation.SOURCE_OUTPUT, "", relativeName, originatingElement)
+                : filer.createResource(StandardLocation.SOURCE_OUTPUT, "", relativeName);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))) {
+            source.writeTo(writer);
+        }
+        return true;
+    }
+
+    @Override
+    public String describe(ClassTest classTest, String className) {
+        return StandardLocation.SOURCE_OUTPUT.getName() + ": " + relativeName(classTest, className);
+    }
+
+    private static String relativeName(ClassTest classTest, String className) {
+        String packageDir = classTest.packageName().replace('.', '/');
+        return OUTPUT_DIRECTORY + '/' + (packageDir.isEmpty() ? "" : packageDir + '/') + className + ".java";
+    }
+}
@@ -0,0 +1,188 @@
+package io.github.kelari.atg.processor;
+
+import com.google.auto.service.AutoService;
+import io.github.kelari.atg.annotation.KelariGenerateApiTest;
+import io.github.kelari.atg.model.ClassTest;
+import io.github.kelari.atg.plugin.KelariGenerateApiTestPlugin;
+import io.github.kelari.atg.process.AnnotationIndex;
+import io.github.kelari.atg.process.ClassGeneration;
+import io.github.kelari.atg.process.ExtractionContext;
+import io.github.kelari.atg.process.helper.KelariTreeScannerHelper;
+import io.github.kelari.atg.util.CompilerLogger;
+import io.github.kelari.atg.util.GeneratorOptions;
+import io.github.kelari.atg.util.PackageUtils;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@code KelariGenerateApiTestProcessor} is the annotation processor frontend of the generator.
+ * It extracts the same {@link ClassTest} model as the compiler plugin, through the stateless
+ * {@link KelariTreeScannerHelper}, and generates the test classes with {@link ClassGeneration}.
+ *
+ * <p>Each test class is written through the {@code Filer} with the annotated controller as its only
+ * originating element (see {@link FilerTestSourceSink}), and the processor only reads that controller
+ * and the annotations it uses. It is therefore declared <em>isolating</em> in
+ * {@code META-INF/gradle/incremental.annotation.processors}: when a single controller changes, Gradle
+ * only reprocesses that controller and only its generated test has to be recompiled.</p>
+ *
+ * <p>Options are passed with the {@code kelari.} prefix (e.g., {@code -Akelari.includePackages=com.acme.api}).
+ * The build tool tracks the generated files itself, so the fingerprint manifest is not used, and the
+ * generation is synchronous because the {@code Filer} is not thread-safe.</p>
+ *
+ * <p>When {@link KelariGenerateApiTestPlugin} is enabled for the same compilation, the plugin generates
+ * the tests and this processor does nothing.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ * @see KelariGenerateApiTestPlugin
+ */
+@AutoService(Processor.class)
+@SupportedAnnotationTypes(KelariGenerateApiTestProcessor.ANNOTATION_TYPE)
+@SupportedOptions({
+        KelariGenerateApiTestProcessor.OPTION_PREFIX + GeneratorOptions.INCLUDE_PACKAGES,
+        KelariGenerateApiTestProcessor.OPTION_PREFIX + GeneratorOptions.EXCLUDE_PACKAGES,
+        KelariGenerateApiTestProcessor.OPTION_PREFIX + GeneratorOptions.EMITTER,
+        KelariGenerateApiTestProcessor.OPTION_PREFIX + GeneratorOptions.MAX_METHODS_PER_CLASS
+})
+public class KelariGenerateApiTestProcessor extends AbstractProcessor implements CompilerLogger {
+
+    static final String ANNOTATION_TYPE = "io.github.kelari.atg.annotation.KelariGenerateApiTest";
+    static final String OPTION_PREFIX = "kelari.";
+
+    private final KelariTreeScannerHelper kelariTreeScannerHelper = KelariTreeScannerHelper.getInstance();
+    private GeneratorOptions options;
+    private ExtractionContext context;
+    private FilerTestSourceSink sink;
+    private ClassGeneration classGeneration;
+    private Element currentElement;
+
+    /**
+     * Initializes the processor with the processing environment of the compilation.
+     * An invalid option is reported as a compiler error, and the processor then generates nothing.
+     *
+     * @param processingEnv the processing environment
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        try {
+            this.options = parseOptions(processingEnv.getOptions());
+        } catch (IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Kelari: " + e.getMessage());
+            return;
+        }
+        this.context = new ExtractionContext(new AnnotationIndex(processingEnv.getElementUtils()), this);
+        this.sink = new FilerTestSourceSink(processingEnv.getFiler());
+        this.classGeneration = new ClassGeneration(options, sink);
+        this.classGeneration.setCompilerLogger(this);
+    }
+
+    /**
+     * Supports the latest source version of the running compiler; the processor only reads
+     * class and method declarations.
+     *
+     * @return the latest supported source version
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Generates the test classes of the controllers annotated with {@link KelariGenerateApiTest}
+     * in this round, and reports the generation counters once processing is over.
+     * The annotation is not claimed, so other processors still see it.
+     *
+     * @param annotations the annotation types requested to be processed
+     * @param roundEnv    the environment of the current round
+     * @return always {@code false}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (Objects.isNull(options) || KelariGenerateApiTestPlugin.isActive(processingEnv.getElementUtils()))
+            return false;
+        List<ClassTest> classTestList = new ArrayList<>();
+        for (TypeElement annotation : annotations) {
+            for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                String packageName = PackageUtils.sanitizePackageName(
+                        processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString());
+                if (options.isPackageIncluded(packageName))
+                    classTestList.add(extractClassTest(typeElement, packageName));
+            }
+        }
+        currentElement = null;
+        if (!classTestList.isEmpty()) {
+            classGeneration.enqueue(classTestList);
+            classGeneration.generateSpec();
+        }
+        if (roundEnv.processingOver())
+            classGeneration.finish();
+        return false;
+    }
+
+    /**
+     * Logs a diagnostic message on the controller being processed, or on the compilation
+     * when no controller is being processed.
+     *
+     * @param kind    the severity of the message
+     * @param message the message to log
+     */
+    @Override
+    public void log(Diagnostic.Kind kind, String message) {
+        processingEnv.getMessager().printMessage(kind, message, currentElement);
+    }
+
+    /**
+     * Extracts the test class model of an annotated controller and records the controller
+     * as the originating element of its generated source.
+     *
+     * @param typeElement the controller type
+     * @param packageName the package of the controller
+     * @return the test class model
+     */
+    private ClassTest extractClassTest(TypeElement typeElement, String packageName) {
+        currentElement = typeElement;
+        ClassTest.Builder classTest = kelariTreeScannerHelper.createClassTest(
+                typeElement.getSimpleName().toString(), packageName, typeElement, context);
+        for (ExecutableElement methodElement : ElementFilter.methodsIn(typeElement.getEnclosedElements()))
+            classTest.scenario(kelariTreeScannerHelper.extractSpecScenariosTest(methodElement, context));
+        ClassTest built = classTest.build();
+        sink.originatingElement(built, typeElement);
+        return built;
+    }
+
+    /**
+     * Maps the {@code kelari.}-prefixed processor options to generator options. Incremental
+     * generation and the worker pool are always disabled, see the class documentation.
+     *
+     * @param processorOptions the options passed to the compiler with {@code -A}
+     * @return the generator options
+     */
+    private static GeneratorOptions parseOptions(Map<String, String> processorOptions) {
+        List<String> args = new ArrayList<>();
+        processorOptions.forEach((key, value) -> {
+            if (key.startsWith(OPTION_PREFIX))
+                args.add(key.substring(OPTION_PREFIX.length()) + (value != null ? "=" + value : ""));
+        });
+        args.add(GeneratorOptions.INCREMENTAL + "=false");
+        args.add(GeneratorOptions.THREADS + "=0");
+        return GeneratorOptions.parse(args.toArray(String[]::new));
+    }
+}
@@ -20,10 +20,15 @@ public final class Constants {
     private Constants() {}
 
     public static final String PLUGIN_NAME = "KelariApiTestGeneratorPlugin";
+    public static final String GENERATED_FILE_COMMENT = "Generated by Kelari - API Test Generator";
     public static final String ATTRIBUTE_CLASS_TEST_BEARER_TOKEN = "bearerToken";
+    public static final String ORDERED_GROUP_CLASS_NAME = "OrderedTests";
     public static final String WEB_TEST_CLIENT_CLASS_INSTANCE_NAME = "webTestClient";
     public static final String SPRING_BOOT_TEST_CONTEXT_NAME = "webEnvironment";
     public static final String SPRING_BOOT_TEST_CONTEXT_FORMAT = "$T.RANDOM_PORT";
+    public static final String SHARD_BASE_CLASS_SUFFIX = "Base";
+    public static final String SHARD_CLASS_INFIX = "Part";
+    public static final String SHARD_CLASS_SUFFIX = "Test";
     /**
      * Contains constant values for annotation names related to HTTP request mappings.
      */
@@ -101,11 +106,23 @@ public final class Constants {
         public static final ClassName REPEAT = ClassName.get("org.junit.jupiter.api", "RepeatedTest");
         public static final ClassName BEFORE_EACH = ClassName.get("org.junit.jupiter.api", "BeforeEach");
         public static final ClassName MATCHERS = ClassName.get("org.hamcrest", "Matchers");
+        public static final ClassName MATCHER = ClassName.get("org.hamcrest", "Matcher");
         public static final ClassName BEFORE_ALL = ClassName.get("org.junit.jupiter.api", "BeforeAll");
+        public static final ClassName EXTEND_WITH = ClassName.get("org.junit.jupiter.api.extension", "ExtendWith");
+        public static final ClassName NESTED = ClassName.get("org.junit.jupiter.api", "Nested");
+        public static final ClassName TEST_METHOD_ORDER = ClassName.get("org.junit.jupiter.api", "TestMethodOrder");
+        public static final ClassName ORDER_ANNOTATION = ClassName.get("org.junit.jupiter.api", "MethodOrderer", "OrderAnnotation");
+        public static final ClassName EXECUTION = ClassName.get("org.junit.jupiter.api.parallel", "Execution");
+        public static final ClassName EXECUTION_MODE = ClassName.get("org.junit.jupiter.api.parallel", "ExecutionMode");
 
         public static final ClassName MATCHER_REGISTRY = ClassName.get("io.github.kelari.atg.annotation", "MatcherRegistry");
 
         public static final ClassName DURATION = ClassName.get("java.time", "Duration");
+        // Kelari runtime
+        public static final ClassName DATA_LOAD_UTIL = ClassName.get("io.github.kelari.atg.util", "DataLoadUtil");
+        public static final ClassName KELARI_TEST_SUPPORT = ClassName.get("io.github.kelari.atg.util", "KelariTestSupport");
+        public static final ClassName BEARER_TOKEN_CACHE = ClassName.get("io.github.kelari.atg.util", "BearerTokenCache");
+        public static final ClassName KELARI_LOG_EXTENSION = ClassName.get("io.github.kelari.atg.util", "KelariLogExtension");
 
         // Spring WebFlux
         public static final ClassName BODY_INSERTERS = ClassName.get("org.springframework.web.reactive.function", "BodyInserters");
@@ -130,5 +147,6 @@ public final class Constants {
         public static final ClassName MONO = ClassName.get("reactor.core.publisher", "Mono");
         // Java Util Classes
         public static final ClassName MAP = ClassName.get("java.util", "Map");
+        public static final ClassName ATOMIC_REFERENCE = ClassName.get("java.util.concurrent.atomic", "AtomicReference");
     }
 }
\ No newline at end of file
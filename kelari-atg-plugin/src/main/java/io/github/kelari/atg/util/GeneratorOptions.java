@@ -0,0 +1,287 @@
+package io.github.kelari.atg.util;
+
+import io.github.kelari.atg.process.ClassGeneration;
+import io.github.kelari.atg.process.KelariTreeScanner;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable set of options that tune the test generation, parsed from the arguments
+ * given to the compiler plugin.
+ * <p>
+ * Each argument has the form {@code key=value}; unknown keys are kept but ignored. The values of the
+ * known options are validated by {@link #parse(String...)}, so that a malformed value is reported once,
+ * when the plugin or the processor is initialized.
+ * </p>
+ *
+ * <p>Example:</p>
+ * <pre>
+ *     -Xplugin:KelariApiTestGeneratorPlugin buildDir=target outputDir=target/generated-test-sources/kelari threads=4 emitter=direct maxMethodsPerClass=200
+ * </pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class GeneratorOptions {
+
+    /** Directory holding build state, such as the fingerprint manifest. */
+    public static final String BUILD_DIR = "buildDir";
+    /** Root of the generated test sources. */
+    public static final String OUTPUT_DIR = "outputDir";
+    /** Whether classes whose model did not change since the last build are skipped. */
+    public static final String INCREMENTAL = "incremental";
+    /** Size of the worker pool that builds and writes test classes; {@code 0} generates synchronously. */
+    public static final String THREADS = "threads";
+    /** Scanner traversal mode: {@code declarations} (default) or {@code full}. */
+    public static final String SCAN_MODE = "scanMode";
+    /** Emitter of the test methods: {@code javapoet} (default) or {@code direct}. */
+    public static final String EMITTER = "emitter";
+    /** Maximum number of test methods per generated class before it is split into shards; {@code 0} never splits. */
+    public static final String MAX_METHODS_PER_CLASS = "maxMethodsPerClass";
+    /** Comma-separated package prefixes to scan; when absent, every package is scanned. */
+    public static final String INCLUDE_PACKAGES = "includePackages";
+    /** Comma-separated package prefixes never scanned. */
+    public static final String EXCLUDE_PACKAGES = "excludePackages";
+    /** Whether scan statistics, such as the number of visited syntax tree nodes, are reported as a compiler note. */
+    public static final String STATS = "stats";
+
+    private final Map<String, String> values;
+    private final List<String> includePackages;
+    private final List<String> excludePackages;
+    private final int threads;
+    private final int maxMethodsPerClass;
+    private final ClassGeneration.Emitter emitter;
+    private final KelariTreeScanner.ScanMode scanMode;
+
+    private GeneratorOptions(Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(values);
+        this.includePackages = splitList(values.get(INCLUDE_PACKAGES));
+        this.excludePackages = splitList(values.get(EXCLUDE_PACKAGES));
+        checkBoolean(INCREMENTAL);
+        checkBoolean(STATS);
+        String threadsValue = values.get(THREADS);
+        this.threads = threadsValue == null ? Math.min(4, Runtime.getRuntime().availableProcessors())
+                : parseNonNegative(THREADS, threadsValue);
+        String maxMethodsValue = values.get(MAX_METHODS_PER_CLASS);
+        this.maxMethodsPerClass = maxMethodsValue == null ? 0 : parseNonNegative(MAX_METHODS_PER_CLASS, maxMethodsValue);
+        this.emitter = parseEnum(EMITTER, ClassGeneration.Emitter.JAVAPOET, ClassGeneration.Emitter::fromOption);
+        this.scanMode = parseEnum(SCAN_MODE, KelariTreeScanner.ScanMode.DECLARATIONS, KelariTreeScanner.ScanMode::fromOption);
+    }
+
+    /**
+     * Parses plugin arguments of the form {@code key=value}.
+     *
+     * @param args the raw plugin arguments, may be {@code null}
+     * @return the parsed options
+     * @throws IllegalArgumentException if a known option has an invalid value, with a message naming the option
+     */
+    public static GeneratorOptions parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (args != null) {
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (separator > 0)
+                    values.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+                else if (!arg.isBlank())
+                    values.put(arg.trim(), "true");
+            }
+        }
+        return new GeneratorOptions(values);
+    }
+
+    /**
+     * Returns the raw value of an option.
+     *
+     * @param key          the option name
+     * @param defaultValue the value used when the option is absent
+     * @return the option value or {@code defaultValue}
+     */
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Returns the value of a boolean option.
+     *
+     * @param key          the option name
+     * @param defaultValue the value used when the option is absent
+     * @return the option value or {@code defaultValue}
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Returns the directory holding build state, {@code <user.dir>/target} by default.
+     *
+     * @return the build directory
+     */
+    public Path getBuildDir() {
+        String buildDir = values.get(BUILD_DIR);
+        return buildDir != null ? Paths.get(buildDir) : Paths.get(System.getProperty("user.dir"), "target");
+    }
+
+    /**
+     * Returns the root of the generated test sources, {@code <buildDir>/generated-test-sources/kelari} by default.
+     *
+     * @return the output directory
+     */
+    public Path getOutputDir() {
+        String outputDir = values.get(OUTPUT_DIR);
+        return outputDir != null ? Paths.get(outputDir) : getBuildDir().resolve("generated-test-sources").resolve("kelari");
+    }
+
+    /**
+     * Derives the build directory from the location of a compiled source file when it is not set
+     * explicitly. A file under a standard source root ({@code <module>/src/<sourceSet>/java}) belongs to
+     * the module whose build directory is {@code <module>/target}; this keeps the modules of a parallel
+     * reactor build apart, since {@code user.dir} is the reactor root for all of them.
+     *
+     * @param sourceFile  the path of a compiled source file
+     * @param packageName the package declared by that file, empty for the default package
+     * @return options with the derived build directory, or these options if it is set or cannot be derived
+     */
+    public GeneratorOptions withSourceFile(Path sourceFile, String packageName) {
+        if (values.containsKey(BUILD_DIR))
+            return this;
+        Path sourceRoot = sourceFile.toAbsolutePath().getParent();
+        if (!packageName.isEmpty())
+            for (int i = packageName.split("\\.").length; i > 0 && sourceRoot != null; i--)
+                sourceRoot = sourceRoot.getParent();
+        if (sourceRoot == null || sourceRoot.getNameCount() < 3
+                || !sourceRoot.endsWith("java") || !sourceRoot.getParent().getParent().endsWith("src"))
+            return this;
+        Map<String, String> derived = new LinkedHashMap<>(values);
+        derived.put(BUILD_DIR, sourceRoot.getParent().getParent().resolveSibling("target").toString());
+        return new GeneratorOptions(derived);
+    }
+
+    /**
+     * Returns whether unchanged classes are skipped, {@code true} by default.
+     *
+     * @return {@code true} if incremental generation is enabled
+     */
+    public boolean isIncremental() {
+        return getBoolean(INCREMENTAL, true);
+    }
+
+    /**
+     * Returns whether scan statistics are reported at the end of the compilation, {@code false} by default.
+     *
+     * @return {@code true} if scan statistics are reported
+     */
+    public boolean isStatsEnabled() {
+        return getBoolean(STATS, false);
+    }
+
+    /**
+     * Returns the size of the generation worker pool. Defaults to the number of available
+     * processors, capped at 4; {@code 0} generates synchronously on the compiler thread.
+     *
+     * @return the number of generation threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns the maximum number of test methods of a generated class. Above it, the class is split
+     * into numbered shards extending a common abstract base. {@code 0} (the default) never splits.
+     *
+     * @return the maximum number of test methods per class, or {@code 0}
+     */
+    public int getMaxMethodsPerClass() {
+        return maxMethodsPerClass;
+    }
+
+    /**
+     * Returns the emitter of the test methods, {@link ClassGeneration.Emitter#JAVAPOET} by default.
+     *
+     * @return the requested emitter
+     */
+    public ClassGeneration.Emitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Returns the traversal mode of the scanner, {@link KelariTreeScanner.ScanMode#DECLARATIONS} by default.
+     *
+     * @return the scan mode
+     */
+    public KelariTreeScanner.ScanMode getScanMode() {
+        return scanMode;
+    }
+
+    private void checkBoolean(String key) {
+        String value = values.get(key);
+        if (value != null && !value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false"))
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value + " (expected true or false)");
+    }
+
+    private <E extends Enum<E>> E parseEnum(String key, E defaultValue, Function<String, E> fromOption) {
+        String value = values.get(key);
+        if (value == null)
+            return defaultValue;
+        try {
+            return fromOption.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value + " (expected one of "
+                    + Arrays.stream(defaultValue.getDeclaringClass().getEnumConstants())
+                    .map(constant -> constant.name().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.joining(", ")) + ")");
+        }
+    }
+
+    private static int parseNonNegative(String key, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= 0)
+                return number;
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid value for " + key + ": " + value + " (expected a non-negative integer)");
+    }
+
+    /**
+     * Checks the package filters: a package is scanned when it matches an included prefix
+     * (or no include filter is set) and matches no excluded prefix. A prefix matches the
+     * package itself and all of its subpackages.
+     *
+     * @param packageName the package of a compilation unit, empty for the default package
+     * @return {@code true} if compilation units of this package should be scanned
+     */
+    public boolean isPackageIncluded(String packageName) {
+        return (includePackages.isEmpty() || matchesAny(packageName, includePackages))
+                && !matchesAny(packageName, excludePackages);
+    }
+
+    private static boolean matchesAny(String packageName, List<String> prefixes) {
+        for (String prefix : prefixes)
+            if (packageName.equals(prefix) || packageName.startsWith(prefix + "."))
+                return true;
+        return false;
+    }
+
+    private static List<String> splitList(String value) {
+        if (value == null || value.isBlank())
+            return List.of();
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(","))
+            if (!item.isBlank())
+                items.add(item.trim());
+        return List.copyOf(items);
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.kelari.atg.util;
+
+import com.sun.source.tree.*;
+import io.github.kelari.atg.annotation.KelariGenerateApiTest;
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.model.ClassTest;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Utility class that provides reusable {@link Predicate} instances
+ * commonly used for filtering syntax trees and test models during annotation processing,
+ * particularly in the context of test generation.
+ * <p>
+ * This class is final and cannot be instantiated.
+ * </p>
+ *
+ * <p><strong>Example usage:</strong></p>
+ * <pre>{@code
+ * classTests.stream()
+ *     .filter(Predicates.IS_REQUIRE_AUTH)
+ *     .forEach(...);
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved
+ */
+public final class Predicates {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Predicates() {}
+
+    private static final String KELARI_ANNOTATION_PACKAGE = KelariGenerateApiTest.class.getPackageName();
+
+    /**
+     * Predicate that verifies if the provided {@link ClassTest} contains
+     * a valid {@code authTest} configuration with non-null {@code authUrl},
+     * {@code username}, and {@code password}.
+     * <p>
+     * Commonly used to determine if a test class requires token generation for authentication.
+     *
+     * @see io.github.kelari.atg.model.AuthTest
+     */
+    public static final Predicate<ClassTest> SHOULD_GENERATE_AUTH_TOKEN =
+            classTest -> classTest.authTest() != null &&
+                    Objects.nonNull(classTest.authTest().authUrl()) &&
+                    Objects.nonNull(classTest.authTest().password()) &&
+                    Objects.nonNull(classTest.authTest().username());
+
+    /**
+     * Predicate that checks, syntactically, whether a compilation unit imports anything from
+     * Kelari's annotation package (single-type or on-demand import).
+     * <p>
+     * It only inspects the import trees, so it is safe to use before any symbol resolution.
+     */
+    public static final Predicate<CompilationUnitTree> IMPORTS_KELARI_ANNOTATIONS = unit -> unit.getImports().stream()
+            .filter(importTree -> !importTree.isStatic())
+            .map(importTree -> importTree.getQualifiedIdentifier().toString())
+            .anyMatch(name -> name.startsWith(KELARI_ANNOTATION_PACKAGE + "."));
+
+    /**
+     * Predicate that checks, syntactically, whether a class declaration carries an annotation
+     * written as {@code @KelariGenerateApiTest}, imported from Kelari's annotation package.
+     * <p>
+     * Only meaningful together with {@link #IMPORTS_KELARI_ANNOTATIONS}; the element must still be
+     * confirmed with {@link io.github.kelari.atg.process.AnnotationIndex#findKelariGenerateApiTest} once resolved.
+     */
+    public static final Predicate<ClassTree> HAS_SIMPLE_KELARI_ANNOTATION_TREE = classTree ->
+            classTree.getModifiers().getAnnotations().stream()
+                    .map(AnnotationTree::getAnnotationType)
+                    .anyMatch(type -> type instanceof IdentifierTree identifier
+                            && identifier.getName().contentEquals(KelariGenerateApiTest.class.getSimpleName()));
+
+    /**
+     * Predicate that checks, syntactically, whether a class declaration carries the fully qualified
+     * {@code @io.github.kelari.atg.annotation.KelariGenerateApiTest} annotation, which needs no import.
+     */
+    public static final Predicate<ClassTree> HAS_QUALIFIED_KELARI_ANNOTATION_TREE = classTree ->
+            classTree.getModifiers().getAnnotations().stream()
+                    .map(AnnotationTree::getAnnotationType)
+                    .anyMatch(type -> type instanceof MemberSelectTree memberSelect
+                            && memberSelect.getIdentifier().contentEquals(KelariGenerateApiTest.class.getSimpleName())
+                            && memberSelect.toString().equals(KelariGenerateApiTest.class.getCanonicalName()));
+
+
+    /**
+     * Predicate that verifies if any {@link CaseTest} in the given {@link ClassTest}
+     * explicitly requires authentication (i.e., {@code requiresAuth = true}).
+     * <p>
+     * This is typically used to determine whether the authentication token
+     * should be injected in the generated test class.
+     *
+     * @implNote Reads the flag computed when the {@link ClassTest} was built.
+     */
+    public static final Predicate<ClassTest> IS_REQUIRE_AUTH = ClassTest::requiresAuth;
+
+    /**
+     * Predicate that verifies if any {@link CaseTest} in the given {@link ClassTest}
+     * enables the request/response logging (i.e., {@code enableLogging = true}).
+     * <p>
+     * Used to register the extension that flushes the log of each test in the generated test class.
+     *
+     * @implNote Reads the flag computed when the {@link ClassTest} was built.
+     */
+    public static final Predicate<ClassTest> IS_LOGGING_ENABLED = ClassTest::enablesLogging;
+
+    /**
+     * Predicate that verifies if any {@link CaseTest} in the given {@link ClassTest}
+     * has an execution order (i.e., {@code order > 0}).
+     * <p>
+     * Used to order the test methods with {@code @TestMethodOrder}, and to group the ordered
+     * test methods of a concurrent test class.
+     *
+     * @implNote Reads the flag computed when the {@link ClassTest} was built.
+     */
+    public static final Predicate<ClassTest> HAS_ORDERED_CASES = ClassTest::hasOrderedCases;
+}
@@ -0,0 +1,48 @@
+package io.github.kelari.atg.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the records built by the model builders stay unchanged when a builder is reused.
+ */
+class ModelBuilderTest {
+
+    @Test
+    void reusingTheClassTestBuilderLeavesTheBuiltRecordUnchanged() {
+        ClassTest.Builder builder = ClassTest.builder()
+                .name("UserControllerGeneratedTest")
+                .scenario(scenario("findUser"));
+        ClassTest classTest = builder.build();
+
+        builder.scenario(scenario("deleteUser")).build();
+
+        assertEquals(List.of("findUser"), List.copyOf(classTest.scenarios().keySet()));
+    }
+
+    @Test
+    void reusingTheParameterMetadataBuilderLeavesTheBuiltRecordUnchanged() {
+        ParameterMetadataTest.Builder builder = ParameterMetadataTest.builder()
+                .pathParam("id", "java.lang.Long")
+                .matrixParam("id", "version", "java.lang.String");
+        ParameterMetadataTest parameters = builder.build();
+
+        builder.pathParam("tenant", "java.lang.String")
+                .matrixParam("id", "lang", "java.lang.String")
+                .build();
+
+        assertEquals(Map.of("id", "java.lang.Long"), parameters.pathParams());
+        assertEquals(Map.of("id", Map.of("version", "java.lang.String")), parameters.matrixParams());
+    }
+
+    private static SpecScenariosTest scenario(String methodName) {
+        return SpecScenariosTest.builder()
+                .methodName(methodName)
+                .caseTest(CaseTest.builder().displayName(methodName).build())
+                .build();
+    }
+}
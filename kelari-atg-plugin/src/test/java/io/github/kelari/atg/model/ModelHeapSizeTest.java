@@ -0,0 +1,181 @@
+package io.github.kelari.atg.model;
+
+import io.github.kelari.atg.annotation.MatcherType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the heap retained by the model of a large code base, against the layout the model had before
+ * it was made of records: {@code CaseTest} extending {@code LinkedHashMap} with eager sets, and
+ * {@code ParameterMetadataTest} allocating its eight maps up front.
+ *
+ * <p>Names are copied for every case, the way javac hands them out, so that only the interning done by
+ * the model makes them shared.</p>
+ */
+class ModelHeapSizeTest {
+
+    private static final int SCENARIOS = 2_000;
+    private static final int CASES_PER_SCENARIO = 10;
+
+    @Test
+    void compactModelRetainsLessThanTwoThirdsOfThePreviousLayout() {
+        long compact = retainedBytes(ModelHeapSizeTest::compactModel);
+        long legacy = retainedBytes(ModelHeapSizeTest::legacyModel);
+
+        int cases = SCENARIOS * CASES_PER_SCENARIO;
+        System.out.printf("Model heap for %d cases: %d bytes/case (records), %d bytes/case (previous layout)%n",
+                cases, compact / cases, legacy / cases);
+        assertTrue(compact * 3 < legacy * 2, "records retain " + compact + " bytes, previous layout " + legacy);
+    }
+
+    @Test
+    void emptyGroupsAndRepeatedNamesAreShared() {
+        ParameterMetadataTest first = parameters(0);
+        ParameterMetadataTest second = parameters(1);
+        CaseTest firstCase = caseTest(0, 0, first);
+        CaseTest secondCase = caseTest(1, 1, second);
+
+        assertSame(first.cookieParams(), second.cookieParams());
+        assertSame(first.matrixParams(), second.matrixParams());
+        assertSame(first.pathParams().get(copy("id")), second.pathParams().get(copy("id")));
+        assertSame(firstCase.expectedHeaders().get(0).name(), secondCase.expectedHeaders().get(0).name());
+        assertSame(firstCase.expectedCookies().get(0).name(), secondCase.expectedCookies().get(0).name());
+        assertSame(CaseTest.builder().build().jsonPaths(), CaseTest.builder().build().jsonPaths());
+    }
+
+    private static long retainedBytes(IntFunction<Object> model) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedHeapAfterGc(memory);
+        Object retained = model.apply(SCENARIOS);
+        long after = usedHeapAfterGc(memory);
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static Object compactModel(int scenarios) {
+        ClassTest.Builder classTest = ClassTest.builder()
+                .name("UserControllerGeneratedTest")
+                .packageName("com.example.api")
+                .pathBase("/api/users");
+        for (int scenario = 0; scenario < scenarios; scenario++) {
+            ParameterMetadataTest parameters = parameters(scenario);
+            SpecScenariosTest.Builder spec = SpecScenariosTest.builder()
+                    .methodName("endpoint" + scenario)
+                    .pathMethod("/items/{id}")
+                    .httpMethod(copy("GET"));
+            for (int caseNumber = 0; caseNumber < CASES_PER_SCENARIO; caseNumber++)
+                spec.caseTest(caseTest(scenario, caseNumber, parameters));
+            classTest.scenario(spec.build());
+        }
+        return classTest.build();
+    }
+
+    private static ParameterMetadataTest parameters(int scenario) {
+        return ParameterMetadataTest.builder()
+                .pathParam(copy("id"), copy("java.lang.Long"))
+                .queryParam(copy("filter"), copy("java.lang.String"))
+                .headerParam(copy("X-Custom-Header"), copy("java.lang.String"))
+                .build();
+    }
+
+    private static CaseTest caseTest(int scenario, int caseNumber, ParameterMetadataTest parameters) {
+        return CaseTest.builder()
+                .displayName("Endpoint " + scenario + " case " + caseNumber)
+                .expectedStatusCode(200)
+                .requiresAuth(true)
+                .repeat(1)
+                .responseTimeoutSeconds(-1)
+                .expectedHeaders(new Header(copy("X-Trace"), copy("a"), copy("b")))
+                .expectedCookies(new Cookie(copy("session"), copy("abc")))
+                .jsonPaths(new JsonPath(copy("$.id"), MatcherType.NOT_NULL_VALUE, "", null))
+                .methodParameters(parameters)
+                .build();
+    }
+
+    private static Object legacyModel(int scenarios) {
+        LegacyClassTest classTest = new LegacyClassTest();
+        for (int scenario = 0; scenario < scenarios; scenario++) {
+            LegacyCaseTest spec = new LegacyCaseTest();
+            LegacyParameterMetadata parameters = new LegacyParameterMetadata();
+            parameters.httpMethod = copy("GET");
+            parameters.pathParams.put(copy("id"), copy("java.lang.Long"));
+            parameters.queryParams.put(copy("filter"), copy("java.lang.String"));
+            parameters.headerParams.put(copy("X-Custom-Header"), copy("java.lang.String"));
+            for (int caseNumber = 0; caseNumber < CASES_PER_SCENARIO; caseNumber++) {
+                LegacyCaseTest caseTest = new LegacyCaseTest();
+                caseTest.displayName = "Endpoint " + scenario + " case " + caseNumber;
+                caseTest.expectedStatusCode = 200;
+                caseTest.requiresAuth = true;
+                caseTest.repeat = 1;
+                caseTest.responseTimeoutSeconds = -1;
+                caseTest.expectedHeaders.add(new LegacyHeader(copy("X-Trace"), copy("a"), copy("b")));
+                caseTest.expectedCookies.add(new LegacyHeader(copy("session"), copy("abc")));
+                caseTest.jsonPaths.add(new JsonPath(copy("$.id"), MatcherType.NOT_NULL_VALUE, "", null));
+                caseTest.methodParameters = parameters;
+                spec.put(caseTest.displayName, caseTest);
+            }
+            classTest.put("endpoint" + scenario, spec);
+        }
+        return classTest;
+    }
+
+    /** Returns a distinct copy of a name, as javac does when a name is converted to a string. */
+    private static String copy(String name) {
+        return new String(name.toCharArray());
+    }
+
+    private static final class LegacyClassTest extends LinkedHashMap<String, LegacyCaseTest> {
+    }
+
+    private static final class LegacyCaseTest extends LinkedHashMap<String, LegacyCaseTest> {
+        String displayName;
+        int expectedStatusCode;
+        boolean requiresAuth;
+        int repeat;
+        long responseTimeoutSeconds;
+        LegacyParameterMetadata methodParameters;
+        final Set<LegacyHeader> expectedHeaders = new LinkedHashSet<>(0);
+        final Set<LegacyHeader> expectedCookies = new LinkedHashSet<>(0);
+        final Set<JsonPath> jsonPaths = new LinkedHashSet<>(0);
+    }
+
+    private static final class LegacyParameterMetadata {
+        String httpMethod;
+        final Map<String, String> pathParams = new HashMap<>();
+        final Map<String, String> queryParams = new HashMap<>();
+        final Map<String, String> headerParams = new HashMap<>();
+        final Map<String, String> cookieParams = new HashMap<>();
+        final Map<String, Map<String, String>> matrixParams = new HashMap<>();
+        final Map<String, String> body = new HashMap<>();
+        final Map<String, String> formParams = new HashMap<>();
+        final Map<String, String> fileParams = new HashMap<>();
+    }
+
+    private static final class LegacyHeader {
+        final String name;
+        final String[] values;
+
+        LegacyHeader(String name, String... values) {
+            this.name = name;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.kelari.atg.plugin;
+
+import io.github.kelari.atg.testing.ControllerSource;
+import io.github.kelari.atg.testing.PluginCompilation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles several source sets at once in one JVM, as a Gradle daemon or {@code mvn -T} does, and checks
+ * that each compilation generates its own tests only and receives its own diagnostics only.
+ */
+class KelariGenerateApiTestPluginConcurrencyTest {
+
+    private static final int SOURCE_SETS = 6;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void concurrentCompilationsKeepTheirOutputsAndDiagnosticsApart() throws Exception {
+        List<ControllerSource> controllers = new ArrayList<>();
+        for (int i = 0; i < SOURCE_SETS; i++)
+            controllers.add(ControllerSource.of("com.example.module" + i, "Module" + i + "Controller")
+                    .endpoints(10 + i)
+                    .casesPerEndpoint(3)
+                    .bodyStatements(20));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(SOURCE_SETS);
+        List<Future<PluginCompilation.Result>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < SOURCE_SETS; i++) {
+                ControllerSource controller = controllers.get(i);
+                PluginCompilation compilation = PluginCompilation.in(tempDir.resolve("module" + i))
+                        .source(controller.qualifiedName(), controller.build())
+                        .option("stats=" + (i % 2 == 0));
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return compilation.compile();
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < SOURCE_SETS; i++)
+                assertCompiledAlone(i, controllers.get(i), results.get(i).get(2, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertCompiledAlone(int index, ControllerSource controller, PluginCompilation.Result result) {
+        assertTrue(result.success(), result::toString);
+        assertEquals(List.of(controller.generatedTestPath()), List.copyOf(result.generatedSources().keySet()));
+
+        String ownSource = controller.qualifiedName().replace('.', '/') + ".java";
+        for (Diagnostic<? extends JavaFileObject> diagnostic : result.diagnostics())
+            if (diagnostic.getSource() != null)
+                assertTrue(diagnostic.getSource().toUri().getPath().endsWith(ownSource),
+                        "source set " + index + " received a diagnostic of " + diagnostic.getSource().getName());
+
+        List<String> notes = result.messages(Diagnostic.Kind.NOTE);
+        assertTrue(notes.stream().anyMatch(note -> note.startsWith("Test class generated at: ")
+                && note.contains(controller.generatedTestPath().replace(".java", ""))), notes::toString);
+        assertEquals(index % 2 == 0, notes.stream().anyMatch(note -> note.contains("syntax tree nodes visited")),
+                "stats note of source set " + index + ": " + notes);
+    }
+}
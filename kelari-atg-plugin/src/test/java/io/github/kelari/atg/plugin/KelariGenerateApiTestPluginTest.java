@@ -0,0 +1,47 @@
+package io.github.kelari.atg.plugin;
+
+import io.github.kelari.atg.testing.ControllerSource;
+import io.github.kelari.atg.testing.PluginCompilation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KelariGenerateApiTestPluginTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generatesTheTestClassOfAnAnnotatedController() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController").endpoints(2);
+
+        PluginCompilation.Result result = PluginCompilation.in(tempDir)
+                .source(controller.qualifiedName(), controller.build())
+                .compile();
+
+        assertTrue(result.success(), result::toString);
+        assertEquals(List.of(controller.generatedTestPath()), List.copyOf(result.generatedSources().keySet()));
+    }
+
+    @Test
+    void reportsAnInvalidOptionAsACompilerError() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController");
+
+        PluginCompilation.Result result = PluginCompilation.in(tempDir)
+                .source(controller.qualifiedName(), controller.build())
+                .option("maxMethodsPerClass=many")
+                .compile();
+
+        assertFalse(result.success());
+        assertEquals(List.of("Kelari: Invalid value for maxMethodsPerClass: many (expected a non-negative integer)"),
+                result.messages(Diagnostic.Kind.ERROR));
+        assertTrue(result.generatedSources().isEmpty());
+    }
+}
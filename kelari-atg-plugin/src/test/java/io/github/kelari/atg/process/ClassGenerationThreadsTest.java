@@ -0,0 +1,53 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.testing.ControllerSource;
+import io.github.kelari.atg.testing.PluginCompilation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that generating on the worker pool writes exactly the same test classes as generating
+ * synchronously, for several controllers and a sharded class.
+ */
+class ClassGenerationThreadsTest {
+
+    private static final int PARALLEL_RUNS = 5;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void workerPoolGeneratesTheSameFilesAsSequentialGeneration() {
+        List<ControllerSource> controllers = List.of(
+                ControllerSource.of("com.example.api", "UserController").endpoints(2).casesPerEndpoint(4),
+                ControllerSource.of("com.example.api", "OrderController").endpoints(5).casesPerEndpoint(4).orderedCases(3),
+                ControllerSource.of("com.example.api.admin", "ProductController").endpoints(3).casesPerEndpoint(2),
+                ControllerSource.of("com.example.api.admin", "AuditController").endpoints(4).casesPerEndpoint(2).concurrent(true),
+                ControllerSource.of("com.example.billing", "InvoiceController").endpoints(1).casesPerEndpoint(6));
+
+        Map<String, String> sequential = compile("sequential", controllers, 0);
+
+        assertEquals(controllers.size() + 4, sequential.size(), sequential.keySet()::toString);
+        assertTrue(sequential.containsKey("com/example/api/OrderControllerGeneratedTestBase.java"), sequential.keySet()::toString);
+        for (int run = 0; run < PARALLEL_RUNS; run++)
+            assertEquals(sequential, compile("parallel" + run, controllers, 4), "parallel run " + run);
+    }
+
+    private Map<String, String> compile(String directory, List<ControllerSource> controllers, int threads) {
+        PluginCompilation compilation = PluginCompilation.in(tempDir.resolve(directory))
+                .option("threads=" + threads)
+                .option("maxMethodsPerClass=8");
+        for (ControllerSource controller : controllers)
+            compilation.source(controller.qualifiedName(), controller.build());
+        PluginCompilation.Result result = compilation.compile();
+        assertTrue(result.success(), result::toString);
+        return result.generatedSources();
+    }
+}
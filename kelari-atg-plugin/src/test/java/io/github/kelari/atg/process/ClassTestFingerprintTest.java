@@ -0,0 +1,112 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.model.ClassTest;
+import io.github.kelari.atg.model.Cookie;
+import io.github.kelari.atg.model.Header;
+import io.github.kelari.atg.model.SpecScenariosTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassTestFingerprintTest {
+
+    @Test
+    void identicalModelsHaveTheSameFingerprint() {
+        UnaryOperator<CaseTest.Builder> headers = caseTest -> caseTest.expectedHeaders(new Header("X", "a", "b"));
+
+        assertEquals(fingerprint(headers), fingerprint(headers));
+    }
+
+    @Test
+    void headerValuesCannotShiftIntoTheNextHeader() {
+        String oneHeader = fingerprint(caseTest -> caseTest.expectedHeaders(new Header("X", "a", "b", "c")));
+        String twoHeaders = fingerprint(caseTest -> caseTest
+                .expectedHeaders(new Header("X", "a"))
+                .expectedHeaders(new Header("b", "c")));
+
+        assertNotEquals(oneHeader, twoHeaders);
+    }
+
+    @Test
+    void headersCannotShiftIntoCookies() {
+        String header = fingerprint(caseTest -> caseTest.expectedHeaders(new Header("session", "abc")));
+        String cookie = fingerprint(caseTest -> caseTest.expectedCookies(new Cookie("session", "abc")));
+
+        assertNotEquals(header, cookie);
+    }
+
+    @Test
+    void casesCannotShiftIntoTheNextScenario() {
+        CaseTest first = CaseTest.builder().displayName("first").build();
+        CaseTest second = CaseTest.builder().displayName("second").build();
+        ClassTest oneScenario = classTest(scenario("get", first, second), scenario("list"));
+        ClassTest twoScenarios = classTest(scenario("get", first), scenario("list", second));
+
+        assertNotEquals(ClassTestFingerprint.of(oneScenario, 0), ClassTestFingerprint.of(twoScenarios, 0));
+    }
+
+    @Test
+    void maxMethodsPerClassIsPartOfTheFingerprint() {
+        ClassTest classTest = classTest(scenario("get", CaseTest.builder().build()));
+
+        assertNotEquals(ClassTestFingerprint.of(classTest, 0), ClassTestFingerprint.of(classTest, 10));
+    }
+
+    @Test
+    void generatorWithoutReleaseVersionIsIdentifiedByItsCode() {
+        String version = ClassTestFingerprint.generatorVersion();
+
+        assertTrue(version.startsWith("code:"), version);
+        assertEquals(version, ClassTestFingerprint.generatorVersion());
+    }
+
+    @Test
+    void codeDigestChangesWithAnyFileOfTheGenerator(@TempDir Path classes) throws IOException {
+        Path handler = Files.createDirectories(classes.resolve("io/github/kelari/atg")).resolve("Handler.class");
+        Files.write(handler, new byte[] {1, 2, 3});
+        Files.write(classes.resolve("io/github/kelari/atg/Emitter.class"), new byte[] {4, 5});
+        String digest = ClassTestFingerprint.codeDigest(classes);
+
+        Files.write(handler, new byte[] {1, 2, 4});
+        String changed = ClassTestFingerprint.codeDigest(classes);
+        Files.write(handler, new byte[] {1, 2, 3});
+
+        assertNotEquals(digest, changed);
+        assertEquals(digest, ClassTestFingerprint.codeDigest(classes));
+        Files.move(handler, handler.resolveSibling("Renamed.class"));
+        assertNotEquals(digest, ClassTestFingerprint.codeDigest(classes));
+    }
+
+    private static String fingerprint(UnaryOperator<CaseTest.Builder> caseTest) {
+        return ClassTestFingerprint.of(classTest(scenario("get", caseTest.apply(CaseTest.builder()).build())), 0);
+    }
+
+    private static SpecScenariosTest scenario(String methodName, CaseTest... caseTests) {
+        SpecScenariosTest.Builder scenario = SpecScenariosTest.builder()
+                .methodName(methodName)
+                .pathMethod("/" + methodName)
+                .httpMethod("GET");
+        for (CaseTest caseTest : caseTests)
+            scenario.caseTest(caseTest);
+        return scenario.build();
+    }
+
+    private static ClassTest classTest(SpecScenariosTest... scenarios) {
+        ClassTest.Builder classTest = ClassTest.builder()
+                .name("UserControllerGeneratedTest")
+                .packageName("com.example.api")
+                .pathBase("/api/users");
+        for (SpecScenariosTest scenario : scenarios)
+            classTest.scenario(scenario);
+        return classTest.build();
+    }
+}
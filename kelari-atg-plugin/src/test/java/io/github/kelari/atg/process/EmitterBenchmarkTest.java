@@ -0,0 +1,120 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.annotation.MatcherType;
+import io.github.kelari.atg.model.AuthTest;
+import io.github.kelari.atg.model.CaseTest;
+import io.github.kelari.atg.model.ClassTest;
+import io.github.kelari.atg.model.Cookie;
+import io.github.kelari.atg.model.Header;
+import io.github.kelari.atg.model.JsonPath;
+import io.github.kelari.atg.model.ParameterMetadataTest;
+import io.github.kelari.atg.model.SpecScenariosTest;
+import io.github.kelari.atg.util.GeneratorOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Times the generation of a controller with thousands of scenarios with each {@link ClassGeneration.Emitter},
+ * writing to memory so that only the building and formatting of the sources is measured.
+ */
+class EmitterBenchmarkTest {
+
+    private static final int ENDPOINTS = 200;
+    private static final int CASES_PER_ENDPOINT = 10;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    @Test
+    void directEmitterIsFasterThanJavaPoet() {
+        ClassTest classTest = classTest();
+
+        String javaPoetSource = generate(ClassGeneration.Emitter.JAVAPOET, classTest);
+        String directSource = generate(ClassGeneration.Emitter.DIRECT, classTest);
+        assertEquals(javaPoetSource, directSource);
+
+        long javaPoet = medianNanos(ClassGeneration.Emitter.JAVAPOET, classTest);
+        long direct = medianNanos(ClassGeneration.Emitter.DIRECT, classTest);
+        System.out.printf("Generation of %d test methods: %.1f ms (javapoet), %.1f ms (direct), %.2fx speedup%n",
+                ENDPOINTS * CASES_PER_ENDPOINT, javaPoet / 1e6, direct / 1e6, (double) javaPoet / direct);
+        assertTrue(direct < javaPoet, "direct emitter took " + direct + " ns, JavaPoet " + javaPoet + " ns");
+    }
+
+    private static long medianNanos(ClassGeneration.Emitter emitter, ClassTest classTest) {
+        for (int i = 0; i < WARMUP_RUNS; i++)
+            generate(emitter, classTest);
+        long[] runs = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            generate(emitter, classTest);
+            runs[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(runs);
+        return runs[MEASURED_RUNS / 2];
+    }
+
+    private static String generate(ClassGeneration.Emitter emitter, ClassTest classTest) {
+        StringBuilder out = new StringBuilder();
+        ClassGeneration generation = new ClassGeneration(
+                GeneratorOptions.parse("incremental=false", "threads=0", "emitter=" + emitter.name().toLowerCase()),
+                new TestSourceSink() {
+                    @Override
+                    public boolean write(ClassTest classTest, String className, Source source) throws IOException {
+                        source.writeTo(out);
+                        return true;
+                    }
+
+                    @Override
+                    public String describe(ClassTest classTest, String className) {
+                        return className;
+                    }
+                });
+        generation.enqueue(List.of(classTest));
+        generation.generateSpec();
+        generation.finish();
+        assertEquals(1, generation.getGeneratedCount());
+        return out.toString();
+    }
+
+    private static ClassTest classTest() {
+        ClassTest.Builder classTest = ClassTest.builder()
+                .name("OrderControllerGeneratedTest")
+                .packageName("com.example.api")
+                .pathBase("/api/orders")
+                .authTest(new AuthTest("/api/auth/login", "admin", "secret", "token"));
+        for (int endpoint = 1; endpoint <= ENDPOINTS; endpoint++) {
+            ParameterMetadataTest parameters = ParameterMetadataTest.builder()
+                    .pathParam("id", "java.lang.Long")
+                    .queryParam("filter", "java.lang.String")
+                    .headerParam("X-Custom-Header", "java.lang.String")
+                    .build();
+            SpecScenariosTest.Builder scenario = SpecScenariosTest.builder()
+                    .methodName("endpoint" + endpoint)
+                    .pathMethod("/items/{id}")
+                    .httpMethod("GET");
+            for (int caseNumber = 1; caseNumber <= CASES_PER_ENDPOINT; caseNumber++)
+                scenario.caseTest(CaseTest.builder()
+                        .displayName("Endpoint " + endpoint + " case " + caseNumber)
+                        .expectedStatusCode(200 + caseNumber)
+                        .requiresAuth(caseNumber % 2 == 1)
+                        .timeout(caseNumber % 3 == 0 ? 5 : 0)
+                        .repeat(caseNumber % 4 == 0 ? 3 : 1)
+                        .enableLogging(caseNumber % 5 == 0)
+                        .responseTimeoutSeconds(caseNumber % 5 == 0 ? 10 : -1)
+                        .dataProviderClassName("com.example.api.data.Endpoint" + endpoint + "Data")
+                        .expectedHeaders(new Header("X-Trace", "a", "b"))
+                        .expectedCookies(new Cookie("session", "abc"))
+                        .jsonPaths(new JsonPath("$.id", MatcherType.NOT_NULL_VALUE, "", null))
+                        .jsonPaths(new JsonPath("$.name", MatcherType.EQUAL_TO, "John", null))
+                        .methodParameters(parameters)
+                        .build());
+            classTest.scenario(scenario.build());
+        }
+        return classTest.build();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.testing.ControllerSource;
+import io.github.kelari.atg.testing.PluginCompilation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the {@link ClassGeneration.Emitter#DIRECT direct} emitter writes exactly the same test classes
+ * as the {@link ClassGeneration.Emitter#JAVAPOET JavaPoet} emitter.
+ *
+ * <p>The golden file {@code golden/UserControllerGeneratedTest.java} is the expected output for a controller
+ * whose cases go through every handler. When the generated code changes on purpose, regenerate it with the
+ * JavaPoet emitter and review the difference.</p>
+ */
+class EmitterGoldenFileTest {
+
+    private static final String GOLDEN_FILE = "/golden/UserControllerGeneratedTest.java";
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"javapoet", "direct"})
+    void emitterOutputMatchesTheGoldenFile(String emitter) throws IOException {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController")
+                .endpoints(2)
+                .casesPerEndpoint(5);
+
+        Map<String, String> generated = compile(emitter, controller, UnaryOperator.identity());
+
+        assertEquals(golden(), generated.get(controller.generatedTestPath()));
+    }
+
+    @Test
+    void emittersAgreeOnConcurrentClassesWithOrderedCases() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "OrderController")
+                .endpoints(3)
+                .casesPerEndpoint(5)
+                .orderedCases(4)
+                .concurrent(true);
+
+        assertEmittersAgree(controller, UnaryOperator.identity());
+    }
+
+    @Test
+    void emittersAgreeOnShardedClasses() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "ProductController")
+                .endpoints(4)
+                .casesPerEndpoint(5)
+                .orderedCases(3);
+
+        assertEmittersAgree(controller, compilation -> compilation.option("maxMethodsPerClass=6"));
+    }
+
+    private void assertEmittersAgree(ControllerSource controller, UnaryOperator<PluginCompilation> options) {
+        Map<String, String> javaPoet = compile("javapoet", controller, options);
+        Map<String, String> direct = compile("direct", controller, options);
+
+        assertFalse(javaPoet.isEmpty());
+        assertEquals(javaPoet, direct);
+    }
+
+    private Map<String, String> compile(String emitter, ControllerSource controller, UnaryOperator<PluginCompilation> options) {
+        PluginCompilation.Result result = options.apply(PluginCompilation.in(tempDir.resolve(emitter))
+                        .source(controller.qualifiedName(), controller.build())
+                        .option("emitter=" + emitter))
+                .compile();
+        assertTrue(result.success(), result::toString);
+        return result.generatedSources();
+    }
+
+    private static String golden() throws IOException {
+        try (InputStream in = EmitterGoldenFileTest.class.getResourceAsStream(GOLDEN_FILE)) {
+            assertNotNull(in, GOLDEN_FILE);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.kelari.atg.process;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
+import io.github.kelari.atg.model.ClassTest;
+import io.github.kelari.atg.testing.ControllerSource;
+import io.github.kelari.atg.testing.CountingTrees;
+import io.github.kelari.atg.testing.PluginCompilation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the number of syntax tree nodes touched by {@link KelariTreeScanner} in the
+ * {@code declarations} and {@code full} scan modes, on a controller with large method bodies,
+ * and checks that both modes generate the same tests.
+ *
+ * <p>The touched nodes are those the scanner visits plus those its path lookups walk through, counted
+ * by {@link CountingTrees}, so that a lookup searching the compilation unit from its root shows up.</p>
+ */
+class KelariTreeScannerBenchmarkTest {
+
+    private static final Pattern VISITED_NODES = Pattern.compile("Kelari: (\\d+) syntax tree nodes visited \\((\\w+) scan\\)");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void declarationsScanTouchesFarFewerNodesThanFullScan() throws IOException {
+        ControllerSource controller = ControllerSource.of("com.example.api", "OrderController")
+                .endpoints(20)
+                .casesPerEndpoint(3)
+                .bodyStatements(50);
+
+        long fullNodes = touchedNodes(KelariTreeScanner.ScanMode.FULL, controller);
+        long declarationNodes = touchedNodes(KelariTreeScanner.ScanMode.DECLARATIONS, controller);
+        System.out.printf("KelariTreeScanner: %d nodes touched (full scan), %d nodes touched (declarations scan)%n",
+                fullNodes, declarationNodes);
+        assertTrue(declarationNodes * 10 < fullNodes,
+                "declarations scan touched " + declarationNodes + " nodes, full scan " + fullNodes);
+    }
+
+    @Test
+    void bothScanModesGenerateTheSameTests() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "OrderController")
+                .endpoints(20)
+                .casesPerEndpoint(3)
+                .bodyStatements(50);
+
+        PluginCompilation.Result full = compile("full", controller);
+        PluginCompilation.Result declarations = compile("declarations", controller);
+
+        assertTrue(declarations.generatedSources().containsKey(controller.generatedTestPath()));
+        assertEquals(full.generatedSources(), declarations.generatedSources());
+    }
+
+    @Test
+    void visitedNodeCountIsOnlyReportedWithTheStatsOption() {
+        PluginCompilation.Result result = PluginCompilation.in(tempDir)
+                .source("com.example.api.OrderController", ControllerSource.of("com.example.api", "OrderController").build())
+                .compile();
+
+        assertTrue(result.success(), result::toString);
+        assertTrue(result.messages(Diagnostic.Kind.NOTE).stream().noneMatch(note -> VISITED_NODES.matcher(note).find()));
+    }
+
+    private PluginCompilation.Result compile(String scanMode, ControllerSource controller) {
+        PluginCompilation.Result result = PluginCompilation.in(tempDir.resolve(scanMode))
+                .source(controller.qualifiedName(), controller.build())
+                .option("scanMode=" + scanMode)
+                .option("stats=true")
+                .compile();
+        assertTrue(result.success(), result::toString);
+        assertTrue(result.messages(Diagnostic.Kind.NOTE).stream().anyMatch(note -> VISITED_NODES.matcher(note).find()),
+                result::toString);
+        return result;
+    }
+
+    /**
+     * Analyzes the controller without the plugin, then scans its compilation unit the way the plugin's
+     * task listener does, with path lookups going through {@link CountingTrees}.
+     *
+     * @return the nodes visited by the scanner plus the nodes walked through by its path lookups
+     */
+    private long touchedNodes(KelariTreeScanner.ScanMode scanMode, ControllerSource controller) throws IOException {
+        Path source = tempDir.resolve(scanMode.name()).resolve(controller.qualifiedName().replace('.', '/') + ".java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, controller.build(), StandardCharsets.UTF_8);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            JavacTask task = (JavacTask) compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-proc:none", "-classpath", System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"))),
+                    null, fileManager.getJavaFileObjectsFromPaths(List.of(source)));
+            Iterable<? extends CompilationUnitTree> units = task.parse();
+            task.analyze();
+            assertTrue(diagnostics.getDiagnostics().stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR),
+                    diagnostics.getDiagnostics()::toString);
+
+            CountingTrees trees = new CountingTrees(Trees.instance(task));
+            KelariTreeScanner scanner = new KelariTreeScanner(trees, new AnnotationIndex(task.getElements()), scanMode);
+            List<ClassTest> classTests = new ArrayList<>();
+            for (CompilationUnitTree unit : units) {
+                scanner.setCompilationUnitTree(unit);
+                scanner.setClassTestList(classTests);
+                TreePath unitPath = new TreePath(unit);
+                for (Tree typeDecl : unit.getTypeDecls())
+                    if (typeDecl instanceof ClassTree)
+                        scanner.scan(new TreePath(unitPath, typeDecl), null);
+            }
+            assertEquals(1, classTests.size());
+            assertEquals(controller.caseCount(), classTests.get(0).scenarios().values().stream()
+                    .mapToInt(scenario -> scenario.caseTestList().size()).sum());
+            return scanner.getVisitedNodeCount() + trees.getTouchedNodeCount();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.kelari.atg.process;
+
+import io.github.kelari.atg.testing.ControllerSource;
+import io.github.kelari.atg.testing.PluginCompilation;
+import io.github.kelari.atg.testing.SurefireDiscovery;
+import io.github.kelari.atg.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles the shards of large test classes and discovers them the way Maven Surefire does, to check that a
+ * sharded build runs every test case.
+ */
+class ShardedTestClassTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shardedBuildRunsEveryTestWithTheDefaultSurefireIncludes() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController")
+                .endpoints(3)
+                .casesPerEndpoint(5);
+        PluginCompilation compilation = PluginCompilation.in(tempDir)
+                .source(controller.qualifiedName(), controller.build())
+                .option("maxMethodsPerClass=4");
+
+        PluginCompilation.Result result = compilation.compile();
+        assertTrue(result.success(), result::toString);
+        Map<String, List<String>> testMethods = SurefireDiscovery.testMethods(compilation.compileGeneratedTests());
+
+        assertEquals(List.of("UserControllerGeneratedPart1Test", "UserControllerGeneratedPart2Test",
+                "UserControllerGeneratedPart3Test", "UserControllerGeneratedPart4Test"), List.copyOf(testMethods.keySet()));
+        assertEquals(controller.caseCount(), testMethods.values().stream().mapToInt(List::size).sum());
+        assertTrue(result.generatedSources().containsKey("com/example/api/UserControllerGeneratedTestBase.java"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void orderedCasesFormTheFirstShardOnTheirOwn(boolean concurrent) {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController")
+                .endpoints(3)
+                .casesPerEndpoint(5)
+                .orderedCases(4)
+                .concurrent(concurrent);
+
+        Map<String, List<String>> testMethods = discoverShards(controller, 4);
+
+        assertEquals(List.of("endpoint1_200", "endpoint1_404", "endpoint1_201", "endpoint1_400"),
+                testMethods.get("UserControllerGeneratedPart1Test"));
+        assertShardSizes(List.of(4, 3, 4, 4), testMethods);
+    }
+
+    @Test
+    void orderedShardMayExceedTheMaximumWhileTheOthersDoNot() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController")
+                .endpoints(2)
+                .casesPerEndpoint(5)
+                .orderedCases(6);
+
+        assertShardSizes(List.of(6, 2, 2), discoverShards(controller, 3));
+    }
+
+    @Test
+    void noShardIsEmptyWhenFewCasesAreOrdered() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController")
+                .casesPerEndpoint(4)
+                .orderedCases(2)
+                .concurrent(true);
+
+        assertShardSizes(List.of(2, 1, 1), discoverShards(controller, 1));
+    }
+
+    @Test
+    void classWithOnlyOrderedCasesIsNotSplit() {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController")
+                .casesPerEndpoint(5)
+                .orderedCases(5);
+
+        Map<String, List<String>> testMethods = discoverShards(controller, 2);
+
+        assertEquals(List.of("UserControllerGeneratedTest"), List.copyOf(testMethods.keySet()));
+        assertEquals(5, testMethods.get("UserControllerGeneratedTest").size());
+    }
+
+    @Test
+    void shardsOfThePreviousNamingAreDeleted() throws IOException {
+        ControllerSource controller = ControllerSource.of("com.example.api", "UserController")
+                .endpoints(2)
+                .casesPerEndpoint(5);
+        Path packageDir = Files.createDirectories(tempDir.resolve("target/generated-test-sources/kelari/com/example/api"));
+        Path previousShard = packageDir.resolve("UserControllerGeneratedTest_1.java");
+        Files.writeString(previousShard, "// " + Constants.GENERATED_FILE_COMMENT + "\npackage com.example.api;\n",
+                StandardCharsets.UTF_8);
+
+        PluginCompilation.Result result = PluginCompilation.in(tempDir)
+                .source(controller.qualifiedName(), controller.build())
+                .option("maxMethodsPerClass=4")
+                .compile();
+
+        assertTrue(result.success(), result::toString);
+        assertFalse(Files.exists(previousShard));
+        assertTrue(result.generatedSources().containsKey("com/example/api/UserControllerGeneratedPart1Test.java"));
+    }
+
+    private Map<String, List<String>> discoverShards(ControllerSource controller, int maxMethodsPerClass) {
+        PluginCompilation compilation = PluginCompilation.in(tempDir)
+                .source(controller.qualifiedName(), controller.build())
+                .option("maxMethodsPerClass=" + maxMethodsPerClass);
+        PluginCompilation.Result result = compilation.compile();
+        assertTrue(result.success(), result::toString);
+        Map<String, List<String>> testMethods = SurefireDiscovery.testMethods(compilation.compileGeneratedTests());
+        assertEquals(controller.caseCount(), testMethods.values().stream().mapToInt(List::size).sum(), testMethods::toString);
+        return testMethods;
+    }
+
+    private static void assertShardSizes(List<Integer> expectedSizes, Map<String, List<String>> testMethods) {
+        List<Integer> sizes = new ArrayList<>();
+        for (int shard = 1; shard <= testMethods.size(); shard++) {
+            List<String> shardMethods = testMethods.get("UserControllerGeneratedPart" + shard + "Test");
+            assertNotNull(shardMethods, "shard " + shard + " of " + testMethods.keySet());
+            sizes.add(shardMethods.size());
+        }
+        assertEquals(expectedSizes, sizes, testMethods::toString);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.kelari.atg.testing;
+
+/**
+ * Builds the source of an annotated Spring controller, with a configurable number of endpoints,
+ * scenarios per endpoint and statements per method body.
+ *
+ * <p>The scenarios cover the features of the generator: authentication, ordering, logging, headers,
+ * cookies, JSON paths, data providers, repetitions and timeouts, so that the generated tests go
+ * through every handler.</p>
+ */
+public final class ControllerSource {
+
+    /**
+     * Expected status codes of the cases of an endpoint, in order; the names of the generated test methods
+     * derive from them, so they are distinct within an endpoint. Later cases use {@code 200 + case number}.
+     */
+    private static final int[] STATUS_CODES = {200, 404, 201, 400, 204, 403, 401, 500};
+
+    private final String packageName;
+    private final String className;
+    private int endpoints = 1;
+    private int casesPerEndpoint = 1;
+    private int orderedCases;
+    private int bodyStatements;
+    private boolean concurrent;
+
+    private ControllerSource(String packageName, String className) {
+        this.packageName = packageName;
+        this.className = className;
+    }
+
+    /**
+     * Starts the source of a controller.
+     *
+     * @param packageName the package of the controller
+     * @param className   the simple name of the controller
+     * @return the controller source
+     */
+    public static ControllerSource of(String packageName, String className) {
+        return new ControllerSource(packageName, className);
+    }
+
+    /** Sets the number of endpoints, i.e. of annotated controller methods. */
+    public ControllerSource endpoints(int endpoints) {
+        this.endpoints = endpoints;
+        return this;
+    }
+
+    /** Sets the number of {@code @ApiTestCase} of each endpoint. */
+    public ControllerSource casesPerEndpoint(int casesPerEndpoint) {
+        this.casesPerEndpoint = casesPerEndpoint;
+        return this;
+    }
+
+    /** Gives an {@code order} to the first cases of the controller, counted over all endpoints. */
+    public ControllerSource orderedCases(int orderedCases) {
+        this.orderedCases = orderedCases;
+        return this;
+    }
+
+    /** Sets the number of statements of each method body, which the scanner does not need to visit. */
+    public ControllerSource bodyStatements(int bodyStatements) {
+        this.bodyStatements = bodyStatements;
+        return this;
+    }
+
+    /** Sets {@code @KelariGenerateApiTest(concurrent = ...)}. */
+    public ControllerSource concurrent(boolean concurrent) {
+        this.concurrent = concurrent;
+        return this;
+    }
+
+    /** Returns the fully qualified name of the controller. */
+    public String qualifiedName() {
+        return packageName + "." + className;
+    }
+
+    /** Returns the path of the generated test class, relative to the output directory. */
+    public String generatedTestPath() {
+        return packageName.replace('.', '/') + "/" + className + "GeneratedTest.java";
+    }
+
+    /** Returns the total number of test cases, i.e. of generated test methods. */
+    public int caseCount() {
+        return endpoints * casesPerEndpoint;
+    }
+
+    /**
+     * Renders the controller source.
+     *
+     * @return the source code
+     */
+    public String build() {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(packageName).append(";\n\n")
+                .append("import io.github.kelari.atg.annotation.*;\n")
+                .append("import org.springframework.http.ResponseEntity;\n")
+                .append("import org.springframework.web.bind.annotation.*;\n\n")
+                .append("import java.util.ArrayList;\n")
+                .append("import java.util.List;\n\n")
+                .append("@RestController\n")
+                .append("@RequestMapping(\"/api/").append(className.toLowerCase()).append("\")\n")
+                .append("@KelariGenerateApiTest(authUrl = \"/api/auth/login\", username = \"admin\", password = \"secret\"")
+                .append(concurrent ? ", concurrent = true" : "").append(")\n")
+                .append("public class ").append(className).append(" {\n");
+        int caseNumber = 0;
+        for (int endpoint = 1; endpoint <= endpoints; endpoint++) {
+            source.append("\n    @ApiTestSpec(scenarios = {\n");
+            for (int scenario = 1; scenario <= casesPerEndpoint; scenario++) {
+                caseNumber++;
+                source.append("            @ApiTestCase(\n")
+                        .append("                    displayName = \"Endpoint ").append(endpoint).append(" case ").append(scenario).append("\",\n")
+                        .append("                    order = ").append(caseNumber <= orderedCases ? caseNumber : 0).append(",\n")
+                        .append("                    expectedStatusCode = ").append(statusCode(scenario)).append(",\n")
+                        .append("                    requiresAuth = ").append(scenario % 2 == 1).append(",\n")
+                        .append("                    timeout = ").append(scenario % 3 == 0 ? 5 : 0).append(",\n")
+                        .append("                    repeat = ").append(scenario % 4 == 0 ? 3 : 1).append(",\n")
+                        .append("                    enableLogging = ").append(scenario % 5 == 0).append(",\n")
+                        .append("                    responseTimeoutSeconds = ").append(scenario % 5 == 0 ? 10 : -1).append(",\n")
+                        .append("                    dataProviderClassName = \"").append(packageName).append(".data.Endpoint").append(endpoint).append("Data\",\n")
+                        .append("                    expectedHeaders = {@Header(name = \"X-Trace\", value = {\"a\", \"b\"})},\n")
+                        .append("                    expectedCookies = {@Cookie(name = \"session\", value = \"abc\")},\n")
+                        .append("                    jsonPaths = {\n")
+                        .append("                            @JsonPath(path = \"$.id\", type = MatcherType.NOT_NULL_VALUE),\n")
+                        .append("                            @JsonPath(path = \"$.name\", type = MatcherType.EQUAL_TO, value = \"John\"),\n")
+                        .append("                            @JsonPath(path = \"$.grade\", type = MatcherType.ANY_OF, value = \"A,B,C\")\n")
+                        .append("                    })")
+                        .append(scenario < casesPerEndpoint ? ",\n" : "\n");
+            }
+            source.append("    })\n")
+                    .append("    @GetMapping(\"/items/{id}\")\n")
+                    .append("    public ResponseEntity<String> endpoint").append(endpoint).append("(\n")
+                    .append("            @PathVariable(\"id\") Long id,\n")
+                    .append("            @RequestParam(required = false) String filter,\n")
+                    .append("            @RequestHeader(value = \"X-Custom-Header\", required = false) String customHeader) {\n")
+                    .append("        List<String> values = new ArrayList<>();\n");
+            for (int statement = 0; statement < bodyStatements; statement++)
+                source.append("        if (id > ").append(statement).append(") values.add(String.valueOf(id * ")
+                        .append(statement).append(" + (filter == null ? 0 : filter.length())));\n");
+            source.append("        values.removeIf(value -> value.isEmpty());\n")
+                    .append("        return ResponseEntity.ok(String.join(\",\", values));\n")
+                    .append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static int statusCode(int scenario) {
+        return scenario <= STATUS_CODES.length ? STATUS_CODES[scenario - 1] : 200 + scenario;
+    }
+}
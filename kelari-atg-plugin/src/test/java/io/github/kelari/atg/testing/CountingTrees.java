@@ -0,0 +1,172 @@
+package io.github.kelari.atg.testing;
+
+import com.sun.source.tree.CatchTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Scope;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ErrorType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Delegates to the {@link Trees} of a compilation and counts the syntax tree nodes its path lookups walk
+ * through. A lookup searches the compilation unit from its root, in traversal order, until it meets the
+ * node, so looking up the members of a class one by one walks the bodies of the preceding members again.
+ */
+public final class CountingTrees extends Trees {
+
+    private final Trees delegate;
+    private long touchedNodeCount;
+
+    /**
+     * Wraps the trees of a compilation.
+     *
+     * @param delegate the trees the lookups are delegated to
+     */
+    public CountingTrees(Trees delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns how many nodes the path lookups have walked through so far.
+     *
+     * @return the touched node counter
+     */
+    public long getTouchedNodeCount() {
+        return touchedNodeCount;
+    }
+
+    @Override
+    public TreePath getPath(CompilationUnitTree unit, Tree node) {
+        return counted(delegate.getPath(unit, node));
+    }
+
+    @Override
+    public TreePath getPath(Element e) {
+        return counted(delegate.getPath(e));
+    }
+
+    @Override
+    public TreePath getPath(Element e, AnnotationMirror a) {
+        return counted(delegate.getPath(e, a));
+    }
+
+    @Override
+    public TreePath getPath(Element e, AnnotationMirror a, AnnotationValue v) {
+        return counted(delegate.getPath(e, a, v));
+    }
+
+    @Override
+    public SourcePositions getSourcePositions() {
+        return delegate.getSourcePositions();
+    }
+
+    @Override
+    public Tree getTree(Element element) {
+        return delegate.getTree(element);
+    }
+
+    @Override
+    public ClassTree getTree(TypeElement element) {
+        return delegate.getTree(element);
+    }
+
+    @Override
+    public MethodTree getTree(ExecutableElement method) {
+        return delegate.getTree(method);
+    }
+
+    @Override
+    public Tree getTree(Element e, AnnotationMirror a) {
+        return delegate.getTree(e, a);
+    }
+
+    @Override
+    public Tree getTree(Element e, AnnotationMirror a, AnnotationValue v) {
+        return delegate.getTree(e, a, v);
+    }
+
+    @Override
+    public Element getElement(TreePath path) {
+        return delegate.getElement(path);
+    }
+
+    @Override
+    public TypeMirror getTypeMirror(TreePath path) {
+        return delegate.getTypeMirror(path);
+    }
+
+    @Override
+    public Scope getScope(TreePath path) {
+        return delegate.getScope(path);
+    }
+
+    @Override
+    public String getDocComment(TreePath path) {
+        return delegate.getDocComment(path);
+    }
+
+    @Override
+    public boolean isAccessible(Scope scope, TypeElement type) {
+        return delegate.isAccessible(scope, type);
+    }
+
+    @Override
+    public boolean isAccessible(Scope scope, Element member, DeclaredType type) {
+        return delegate.isAccessible(scope, member, type);
+    }
+
+    @Override
+    public TypeMirror getOriginalType(ErrorType errorType) {
+        return delegate.getOriginalType(errorType);
+    }
+
+    @Override
+    public void printMessage(Diagnostic.Kind kind, CharSequence msg, Tree t, CompilationUnitTree root) {
+        delegate.printMessage(kind, msg, t, root);
+    }
+
+    @Override
+    public TypeMirror getLub(CatchTree tree) {
+        return delegate.getLub(tree);
+    }
+
+    private TreePath counted(TreePath path) {
+        if (path != null)
+            touchedNodeCount += nodesUpTo(path.getCompilationUnit(), path.getLeaf());
+        return path;
+    }
+
+    /** Counts the nodes a search from the root of the unit goes through before it meets the target. */
+    private static long nodesUpTo(CompilationUnitTree unit, Tree target) {
+        class Search extends TreeScanner<Void, Void> {
+            long count;
+            boolean found;
+
+            @Override
+            public Void scan(Tree tree, Void unused) {
+                if (found || tree == null)
+                    return null;
+                count++;
+                found = tree == target;
+                return found ? null : super.scan(tree, unused);
+            }
+        }
+        Search search = new Search();
+        search.scan(unit, null);
+        return search.count;
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.kelari.atg.testing;
+
+import io.github.kelari.atg.util.Constants;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compiles controller sources in-process with {@code javac} and the Kelari compiler plugin, the way
+ * a project using the plugin does, and gives access to the generated test sources.
+ *
+ * <p>Each compilation has its own directory holding the controller sources ({@code src/main/java}),
+ * the classes, the build directory and the generated test sources.</p>
+ */
+public final class PluginCompilation {
+
+    private final Path directory;
+    private final Map<String, String> sources = new LinkedHashMap<>();
+    private final List<String> pluginOptions = new ArrayList<>();
+
+    private PluginCompilation(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Starts a compilation in the given directory.
+     *
+     * @param directory the directory of the compilation, usually a JUnit temporary directory
+     * @return the compilation
+     */
+    public static PluginCompilation in(Path directory) {
+        return new PluginCompilation(directory);
+    }
+
+    /**
+     * Adds a source file to the compilation.
+     *
+     * @param qualifiedName the fully qualified name of the top-level class
+     * @param source        the source code
+     * @return this compilation
+     */
+    public PluginCompilation source(String qualifiedName, String source) {
+        sources.put(qualifiedName, source);
+        return this;
+    }
+
+    /**
+     * Adds a {@code key=value} plugin option, see {@code GeneratorOptions}.
+     *
+     * @param option the plugin option
+     * @return this compilation
+     */
+    public PluginCompilation option(String option) {
+        pluginOptions.add(option);
+        return this;
+    }
+
+    /**
+     * Returns the root of the generated test sources.
+     *
+     * @return the output directory of the plugin
+     */
+    public Path outputDir() {
+        return directory.resolve("target/generated-test-sources/kelari");
+    }
+
+    /**
+     * Runs {@code javac} with the plugin on the sources added so far. May be called again, e.g. to
+     * check an incremental build.
+     *
+     * @return the result of the compilation
+     */
+    public Result compile() {
+        try {
+            List<Path> sourceFiles = new ArrayList<>();
+            for (Map.Entry<String, String> source : sources.entrySet()) {
+                Path file = directory.resolve("src/main/java").resolve(source.getKey().replace('.', '/') + ".java");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+                sourceFiles.add(file);
+            }
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            boolean success = javac(sourceFiles, classPath(), directory.resolve("target/classes"), diagnostics,
+                    "-Xplugin:" + String.join(" ", pluginArguments()));
+            return new Result(success, diagnostics.getDiagnostics(), outputDir());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compiles the generated test sources, without the plugin, against the classes of the last
+     * {@link #compile()} and the Spring Boot test annotations.
+     *
+     * @return the directory of the compiled tests
+     * @throws AssertionError if the generated sources do not compile
+     */
+    public Path compileGeneratedTests() {
+        try (Stream<Path> files = Files.walk(outputDir())) {
+            List<Path> sourceFiles = files.filter(file -> file.toString().endsWith(".java")).sorted().toList();
+            Path testClasses = directory.resolve("target/test-classes");
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            if (!javac(sourceFiles, classPath() + File.pathSeparator + directory.resolve("target/classes"), testClasses, diagnostics))
+                throw new AssertionError("The generated tests do not compile: " + diagnostics.getDiagnostics());
+            return testClasses;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean javac(List<Path> sourceFiles, String classPath, Path classes,
+                                 DiagnosticCollector<JavaFileObject> diagnostics, String... extraOptions) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            List<String> options = new ArrayList<>(List.of(
+                    "-classpath", classPath,
+                    "-d", Files.createDirectories(classes).toString(),
+                    "-encoding", "UTF-8"));
+            options.addAll(List.of(extraOptions));
+            return compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromPaths(sourceFiles)).call();
+        }
+    }
+
+    private List<String> pluginArguments() {
+        List<String> arguments = new ArrayList<>();
+        arguments.add(Constants.PLUGIN_NAME);
+        arguments.add("buildDir=" + directory.resolve("target"));
+        arguments.add("outputDir=" + outputDir());
+        arguments.addAll(pluginOptions);
+        return arguments;
+    }
+
+    /**
+     * Returns the class path of the tests, which holds the plugin, the runtime, the Spring annotations
+     * and the Spring Boot test annotations.
+     * Surefire runs the tests from a manifest-only jar and exposes the real class path in a property.
+     */
+    private static String classPath() {
+        return System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+    }
+
+    /**
+     * The outcome of a compilation.
+     *
+     * @param success     whether the compilation succeeded
+     * @param diagnostics the diagnostics reported by the compiler and the plugin
+     * @param outputDir   the root of the generated test sources
+     */
+    public record Result(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path outputDir) {
+
+        /**
+         * Returns the messages of the diagnostics of the given kind.
+         *
+         * @param kind the kind of diagnostic
+         * @return the messages, in reporting order
+         */
+        public List<String> messages(Diagnostic.Kind kind) {
+            List<String> messages = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics)
+                if (diagnostic.getKind() == kind)
+                    messages.add(diagnostic.getMessage(Locale.ROOT));
+            return messages;
+        }
+
+        /**
+         * Returns the generated test sources, keyed by their path relative to the output directory.
+         *
+         * @return the generated sources, sorted by path
+         */
+        public Map<String, String> generatedSources() {
+            Map<String, String> generated = new LinkedHashMap<>();
+            if (!Files.isDirectory(outputDir))
+                return generated;
+            try (Stream<Path> files = Files.walk(outputDir)) {
+                for (Path file : files.filter(file -> file.toString().endsWith(".java")).sorted().toList())
+                    generated.put(outputDir.relativize(file).toString().replace('\\', '/'),
+                            Files.readString(file, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return generated;
+        }
+
+        @Override
+        public String toString() {
+            return diagnostics.toString();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.kelari.atg.testing;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
+
+/**
+ * Discovers compiled tests the way the Maven Surefire plugin does with its default configuration: the
+ * JUnit Platform scans the test classes directory and keeps the classes matching the default includes
+ * ({@code Test*}, {@code *Test}, {@code *Tests} and {@code *TestCase}), inner classes excluded.
+ */
+public final class SurefireDiscovery {
+
+    /** The default Surefire includes and excludes, as a pattern of fully qualified class names. */
+    private static final String DEFAULT_INCLUDES = "^(?:.*\\.)?(?:Test[^.$]*|[^.$]*Test|[^.$]*Tests|[^.$]*TestCase)$";
+
+    private SurefireDiscovery() {}
+
+    /**
+     * Returns the test methods Surefire would run, including those of {@code @Nested} classes, keyed by the
+     * simple name of their top-level class.
+     *
+     * @param testClasses the directory of the compiled tests, see {@link PluginCompilation#compileGeneratedTests()}
+     * @return the names of the test methods of each class, in discovery order, sorted by class name
+     */
+    public static Map<String, List<String>> testMethods(Path testClasses) {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {testClasses.toUri().toURL()},
+                SurefireDiscovery.class.getClassLoader())) {
+            thread.setContextClassLoader(classLoader);
+            LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                    .selectors(selectClasspathRoots(Set.of(testClasses)))
+                    .filters(ClassNameFilter.includeClassNamePatterns(DEFAULT_INCLUDES))
+                    .build();
+            TestPlan testPlan = LauncherFactory.create().discover(request);
+            Map<String, List<String>> testMethods = new TreeMap<>();
+            for (TestIdentifier root : testPlan.getRoots())
+                for (TestIdentifier descendant : testPlan.getDescendants(root)) {
+                    TestSource source = descendant.getSource().orElse(null);
+                    if (source instanceof MethodSource method)
+                        testMethods.computeIfAbsent(topLevelSimpleName(method.getClassName()), name -> new ArrayList<>())
+                                .add(method.getMethodName());
+                }
+            return testMethods;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private static String topLevelSimpleName(String className) {
+        int nested = className.indexOf('$');
+        String topLevel = nested < 0 ? className : className.substring(0, nested);
+        return topLevel.substring(topLevel.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.kelari.atg.util;
+
+import io.github.kelari.atg.process.ClassGeneration;
+import io.github.kelari.atg.process.KelariTreeScanner;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratorOptionsTest {
+
+    @Test
+    void parsesTheKnownOptions() {
+        GeneratorOptions options = GeneratorOptions.parse("threads=2", "maxMethodsPerClass=50", "emitter=DIRECT",
+                "scanMode=full", "incremental=false", "stats");
+
+        assertEquals(2, options.getThreads());
+        assertEquals(50, options.getMaxMethodsPerClass());
+        assertEquals(ClassGeneration.Emitter.DIRECT, options.getEmitter());
+        assertEquals(KelariTreeScanner.ScanMode.FULL, options.getScanMode());
+        assertFalse(options.isIncremental());
+        assertTrue(options.isStatsEnabled());
+    }
+
+    @Test
+    void appliesTheDefaults() {
+        GeneratorOptions options = GeneratorOptions.parse();
+
+        assertEquals(0, options.getMaxMethodsPerClass());
+        assertEquals(ClassGeneration.Emitter.JAVAPOET, options.getEmitter());
+        assertEquals(KelariTreeScanner.ScanMode.DECLARATIONS, options.getScanMode());
+        assertTrue(options.isIncremental());
+        assertFalse(options.isStatsEnabled());
+    }
+
+    @Test
+    void ignoresUnknownOptions() {
+        assertEquals("value", GeneratorOptions.parse("unknown=value").get("unknown", null));
+    }
+
+    @Test
+    void rejectsMalformedValuesWhenParsing() {
+        assertEquals("Invalid value for threads: four (expected a non-negative integer)",
+                assertThrows(IllegalArgumentException.class, () -> GeneratorOptions.parse("threads=four")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> GeneratorOptions.parse("maxMethodsPerClass=-1"));
+        assertEquals("Invalid value for emitter: fast (expected one of javapoet, direct)",
+                assertThrows(IllegalArgumentException.class, () -> GeneratorOptions.parse("emitter=fast")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> GeneratorOptions.parse("scanMode=shallow"));
+        assertThrows(IllegalArgumentException.class, () -> GeneratorOptions.parse("incremental=yes"));
+    }
+}
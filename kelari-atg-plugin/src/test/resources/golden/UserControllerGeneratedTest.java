@@ -0,0 +1,261 @@
+// Generated by Kelari - API Test Generator
+package com.example.api;
+
+import static io.github.kelari.atg.util.DataLoadUtil.*;
+import static io.github.kelari.atg.util.KelariTestSupport.*;
+
+import io.github.kelari.atg.util.BearerTokenCache;
+import io.github.kelari.atg.util.KelariLogExtension;
+import java.lang.Object;
+import java.lang.String;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT
+)
+@AutoConfigureWebTestClient
+@ExtendWith(KelariLogExtension.class)
+public class UserControllerGeneratedTest {
+  private static final String ENDPOINT1_URI = "/api/usercontroller/items/{id}?filter={filter}";
+
+  private static final String[] X_TRACE_HEADER_VALUES = {"a", "b"};
+
+  private static final Matcher<?> ID_MATCHER = Matchers.notNullValue();
+
+  private static final Matcher<?> NAME_MATCHER = Matchers.equalTo("John");
+
+  private static final Matcher<?> GRADE_MATCHER = Matchers.anyOf(Matchers.equalTo("A"), Matchers.equalTo("B"), Matchers.equalTo("C"));
+
+  private static final String ENDPOINT2_URI = "/api/usercontroller/items/{id}?filter={filter}";
+
+  private static volatile Map.Entry<WebTestClient, WebTestClient> loggingTimeout10sClient;
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  private String bearerToken() {
+    return "Bearer " + BearerTokenCache.token(webTestClient, "/api/auth/login", "admin", "secret", this::login);
+  }
+
+  private String login() {
+    Map<String, String> credentials = new HashMap<>();
+    credentials.put("username", "admin");
+    credentials.put("password", "secret");
+    AtomicReference<String> token = new AtomicReference<>();
+    webTestClient.post()
+                       .uri("/api/auth/login")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .body(Mono.just(credentials), Map.class)
+                       .exchange()
+                       .expectStatus()
+                       .is2xxSuccessful()
+                       .expectBody()
+                       .jsonPath("$.token")
+                       .value(value -> token.set(String.valueOf(value)));
+    return token.get();
+  }
+
+  private WebTestClient loggingTimeout10sClient() {
+    Map.Entry<WebTestClient, WebTestClient> value = loggingTimeout10sClient;
+    if (value == null || value.getKey() != this.webTestClient) {
+      loggingTimeout10sClient = value = Map.entry(this.webTestClient, this.webTestClient
+          	.mutate()
+          	.filter(logRequest())
+          	.filter(logResponse())
+          	.responseTimeout(Duration.ofSeconds(10))
+          	.build());
+    }
+    return value.getValue();
+  }
+
+  private WebTestClient.RequestHeadersSpec<?> endpoint1Request(WebTestClient client,
+      Map<String, Object> data) {
+    return client
+        	.get()
+        	.uri(ENDPOINT1_URI, data.get("id"), data.get("filter"))
+        	.header("X-Custom-Header", safeString(data.get("X-Custom-Header")));
+  }
+
+  private WebTestClient.RequestHeadersSpec<?> endpoint2Request(WebTestClient client,
+      Map<String, Object> data) {
+    return client
+        	.get()
+        	.uri(ENDPOINT2_URI, data.get("id"), data.get("filter"))
+        	.header("X-Custom-Header", safeString(data.get("X-Custom-Header")));
+  }
+
+  @Test
+  @DisplayName("Endpoint 1 case 1")
+  public void endpoint1_200() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint1Data");
+    endpoint1Request(webTestClient, data)
+        	.header("Authorization", bearerToken())
+        	.exchange()
+        	.expectStatus().isOk()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @Test
+  @DisplayName("Endpoint 1 case 2")
+  public void endpoint1_404() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint1Data");
+    endpoint1Request(webTestClient, data)
+        	.exchange()
+        	.expectStatus().isNotFound()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @Test
+  @Timeout(5)
+  @DisplayName("Endpoint 1 case 3")
+  public void endpoint1_201() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint1Data");
+    endpoint1Request(webTestClient, data)
+        	.header("Authorization", bearerToken())
+        	.exchange()
+        	.expectStatus().isCreated()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @RepeatedTest(3)
+  @DisplayName("Endpoint 1 case 4")
+  public void endpoint1_400() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint1Data");
+    endpoint1Request(webTestClient, data)
+        	.exchange()
+        	.expectStatus().isBadRequest()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @Test
+  @DisplayName("Endpoint 1 case 5")
+  public void endpoint1_204() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint1Data");
+    endpoint1Request(loggingTimeout10sClient(), data)
+        	.header("Authorization", bearerToken())
+        	.exchange()
+        	.expectStatus().isNoContent()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @Test
+  @DisplayName("Endpoint 2 case 1")
+  public void endpoint2_200() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint2Data");
+    endpoint2Request(webTestClient, data)
+        	.header("Authorization", bearerToken())
+        	.exchange()
+        	.expectStatus().isOk()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @Test
+  @DisplayName("Endpoint 2 case 2")
+  public void endpoint2_404() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint2Data");
+    endpoint2Request(webTestClient, data)
+        	.exchange()
+        	.expectStatus().isNotFound()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @Test
+  @Timeout(5)
+  @DisplayName("Endpoint 2 case 3")
+  public void endpoint2_201() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint2Data");
+    endpoint2Request(webTestClient, data)
+        	.header("Authorization", bearerToken())
+        	.exchange()
+        	.expectStatus().isCreated()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @RepeatedTest(3)
+  @DisplayName("Endpoint 2 case 4")
+  public void endpoint2_400() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint2Data");
+    endpoint2Request(webTestClient, data)
+        	.exchange()
+        	.expectStatus().isBadRequest()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+
+  @Test
+  @DisplayName("Endpoint 2 case 5")
+  public void endpoint2_204() {
+    Map<String, Object> data = getData("com.example.api.data.Endpoint2Data");
+    endpoint2Request(loggingTimeout10sClient(), data)
+        	.header("Authorization", bearerToken())
+        	.exchange()
+        	.expectStatus().isNoContent()
+        	.expectCookie().valueEquals("session", "abc")
+        	.expectHeader().valueEquals("X-Trace", X_TRACE_HEADER_VALUES)
+        	.expectBody()
+        	.jsonPath("$.id").value(ID_MATCHER)
+        	.jsonPath("$.name").value(NAME_MATCHER)
+        	.jsonPath("$.grade").value(GRADE_MATCHER);
+  }
+}
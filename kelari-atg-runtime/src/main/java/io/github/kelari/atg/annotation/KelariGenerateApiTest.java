@@ -63,4 +63,19 @@ public @interface KelariGenerateApiTest {
      * It will be used as: "$.{parameterTokenName}"
      */
     String parameterTokenName() default "token";
+
+    /**
+     * Whether the generated test class runs its test methods concurrently when JUnit parallel execution is enabled
+     * ({@code junit.jupiter.execution.parallel.enabled=true}).
+     * <p>
+     * The class is annotated with {@code @Execution(ExecutionMode.CONCURRENT)}. The test cases with an
+     * {@link ApiTestCase#order() order} keep running one after the other, in that order, in a {@code @Nested}
+     * group annotated with {@code @Execution(ExecutionMode.SAME_THREAD)}. A recommended configuration is shipped in
+     * {@code META-INF/kelari/junit-platform.properties}.
+     * </p>
+     *
+     * @return {@code true} to run the unordered test cases concurrently
+     * @since 1.2
+     */
+    boolean concurrent() default false;
 }
\ No newline at end of file
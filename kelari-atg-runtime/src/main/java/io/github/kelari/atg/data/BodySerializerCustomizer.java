@@ -0,0 +1,39 @@
+package io.github.kelari.atg.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Hook configuring the Jackson {@link ObjectMapper} that serializes the JSON request bodies of the
+ * generated tests, e.g., to register modules or change the naming strategy.
+ * <p>
+ * Implementations are registered as {@link java.util.ServiceLoader} providers in
+ * {@code META-INF/services/io.github.kelari.atg.data.BodySerializerCustomizer} on the test classpath.
+ * They are applied in classpath order, once, before the shared writer is built; the mapper must not
+ * be kept nor modified afterwards.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code
+ * public class JavaTimeBodies implements BodySerializerCustomizer {
+ *     @Override
+ *     public void customize(ObjectMapper mapper) {
+ *         mapper.registerModule(new JavaTimeModule())
+ *               .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+@FunctionalInterface
+public interface BodySerializerCustomizer {
+
+    /**
+     * Configures the mapper of the request bodies.
+     *
+     * @param mapper the mapper, with Jackson's default configuration and the changes of the previous customizers
+     */
+    void customize(ObjectMapper mapper);
+}
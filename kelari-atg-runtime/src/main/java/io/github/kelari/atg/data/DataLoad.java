@@ -42,4 +42,19 @@ public interface DataLoad {
      * @return a map of data to inject or use during testing
      */
     Map<String, Object> load();
+
+    /**
+     * Indicates whether the map returned by {@link #load()} can be reused by every test using this provider.
+     * <p>
+     * {@code DataLoadUtil} loads a cacheable provider once per test JVM and hands the same read-only map to
+     * every test method and repetition. Override this method to return {@code false} when each test must get
+     * fresh data, e.g., unique identifiers or timestamps.
+     * </p>
+     *
+     * @return {@code true} (default) if the loaded data can be cached; {@code false} to call {@link #load()} on every use
+     * @since 1.2
+     */
+    default boolean cacheable() {
+        return true;
+    }
 }
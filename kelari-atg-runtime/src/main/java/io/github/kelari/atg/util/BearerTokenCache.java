@@ -0,0 +1,150 @@
+package io.github.kelari.atg.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JVM-wide cache of the bearer tokens obtained by the generated tests.
+ * <p>
+ * The generated {@code @BeforeEach} method asks this cache for its token. The cache logs in once per client,
+ * authentication URL, username and SHA-256 digest of the password, and hands the same token to every test and
+ * generated class using that key until the token expires.
+ * </p>
+ *
+ * <p>The client is the {@code WebTestClient} of the Spring application context of the test, bound to the port of
+ * its server: a token obtained from one application is never sent to another one, even when both use the same
+ * authentication URL. Clients are held weakly, so the tokens of a closed context are dropped with its client.
+ * Passwords are part of the key as a SHA-256 digest, and are not kept by the cache.</p>
+ *
+ * <p>When the token is a JWT, it is renewed 30 seconds before the time of its {@code exp} claim, so that it does
+ * not expire during the request using it. Other tokens are kept for the number of seconds given by the
+ * {@value #TTL_PROPERTY} system property (300 by default; {@code 0} logs in every time).</p>
+ *
+ * <p>The cache is thread-safe: tests running in parallel log in once per key, while the others wait for the token.
+ * A failed login is not cached.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * String token = BearerTokenCache.token(webTestClient, "/api/auth/login", "admin", "secret", () -> login("admin", "secret"));
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class BearerTokenCache {
+
+    /**
+     * System property holding the lifetime, in seconds, of the tokens without an {@code exp} claim.
+     */
+    public static final String TTL_PROPERTY = "kelari.auth.tokenTtlSeconds";
+
+    private static final long DEFAULT_TTL_SECONDS = 300;
+    private static final long REFRESH_MARGIN_SECONDS = 30;
+    private static final Pattern EXP_CLAIM = Pattern.compile("\"exp\"\\s*:\\s*(\\d+)");
+
+    private static final Map<Object, ConcurrentMap<String, Slot>> SLOTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BearerTokenCache() {}
+
+    /**
+     * Returns the cached token of a user, logging in if there is none or if it is about to expire.
+     *
+     * @param client   the client the token is sent with, such as the {@code WebTestClient} of the test; compared
+     *                 by identity unless it overrides {@code equals}
+     * @param authUrl  the authentication URL
+     * @param username the username
+     * @param password the password
+     * @param login    logs in and returns the raw token (without the {@code Bearer} prefix)
+     * @return the token
+     * @throws IllegalStateException if the login returns no token
+     */
+    public static String token(Object client, String authUrl, String username, String password, Supplier<String> login) {
+        ConcurrentMap<String, Slot> clientSlots = SLOTS.computeIfAbsent(client, key -> new ConcurrentHashMap<>());
+        return clientSlots.computeIfAbsent(authUrl + '\n' + username + '\n' + sha256(password), key -> new Slot())
+                .token(authUrl, login);
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implements SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Token of one key; logins are serialized per key, so that a single test logs in while the others wait.
+     */
+    private static final class Slot {
+
+        private volatile CachedToken cached;
+
+        private String token(String authUrl, Supplier<String> login) {
+            CachedToken current = cached;
+            if (Objects.nonNull(current) && current.isValid())
+                return current.value();
+            synchronized (this) {
+                current = cached;
+                if (Objects.nonNull(current) && current.isValid())
+                    return current.value();
+                String token = login.get();
+                if (Objects.isNull(token) || token.isEmpty())
+                    throw new IllegalStateException("No bearer token returned by " + authUrl);
+                cached = new CachedToken(token, refreshAt(token, System.currentTimeMillis()));
+                return token;
+            }
+        }
+    }
+
+    private record CachedToken(String value, long refreshAtMillis) {
+
+        private boolean isValid() {
+            return System.currentTimeMillis() < refreshAtMillis;
+        }
+    }
+
+    /**
+     * Computes when a token must be renewed: ahead of its {@code exp} claim if it is a JWT, otherwise after the TTL.
+     *
+     * @param token the token
+     * @param now   the current time, in milliseconds
+     * @return the time at which the token must be renewed, in milliseconds
+     */
+    private static long refreshAt(String token, long now) {
+        long expiresAt = jwtExpiry(token);
+        if (expiresAt != 0)
+            return expiresAt - REFRESH_MARGIN_SECONDS * 1000;
+        return now + Long.getLong(TTL_PROPERTY, DEFAULT_TTL_SECONDS) * 1000;
+    }
+
+    private static long jwtExpiry(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3)
+            return 0;
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            Matcher exp = EXP_CLAIM.matcher(payload);
+            return exp.find() ? Long.parseLong(exp.group(1)) * 1000 : 0;
+        } catch (IllegalArgumentException e) {
+            // Not a JWT after all (NumberFormatException included)
+            return 0;
+        }
+    }
+}
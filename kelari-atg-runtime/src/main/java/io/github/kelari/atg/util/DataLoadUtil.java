@@ -0,0 +1,236 @@
+package io.github.kelari.atg.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.kelari.atg.data.BodySerializerCustomizer;
+import io.github.kelari.atg.data.DataLoad;
+
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Utility class for handling test data loading and JSON body formatting.
+ * <p>
+ * This class provides helper methods used during the automatic test generation
+ * process by the Kelari library.
+ * </p>
+ *
+ * <p>Providers are instantiated once per class, and the data of a {@link DataLoad#cacheable() cacheable}
+ * provider is loaded once and shared, read-only, by every test method and repetition using it. The caches
+ * are safe for tests running in parallel.</p>
+ *
+ * <p>Request bodies are serialized by a single Jackson {@link ObjectWriter}, configured by the
+ * {@link BodySerializerCustomizer}s found on the classpath. The JSON bytes of a body read from cached
+ * data are kept with that data, so each body is serialized once however many times it is sent.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * Map<String, Object> data = DataLoadUtil.getData(MyDataProvider.class, MyDataProvider::new);
+ * Map<String, Object> other = DataLoadUtil.getData("com.example.data.OtherDataProvider");
+ * byte[] body = DataLoadUtil.jsonBody(data, "body");
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.0
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class DataLoadUtil {
+
+    private static final ConcurrentMap<String, Class<? extends DataLoad>> PROVIDER_CLASSES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<? extends DataLoad>, DataLoad> PROVIDERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<? extends DataLoad>, LoadedData> LOADED_DATA = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DataLoadUtil() {}
+
+    /**
+     * Loads the data of a provider known by its fully qualified name. The class is looked up and
+     * instantiated through reflection on first use only.
+     *
+     * @param className the fully qualified name of the class implementing {@link DataLoad},
+     *                  {@code null} or empty if the test case has no provider
+     * @return the data returned by the provider, or an empty map if there is no provider
+     * @throws IllegalArgumentException if the class cannot be found, does not implement {@link DataLoad}
+     *                                  or cannot be instantiated through a public no-arg constructor
+     */
+    public static Map<String, Object> getData(String className) {
+        if (Objects.isNull(className) || className.isEmpty())
+            return Collections.emptyMap();
+        Class<? extends DataLoad> type = providerClass(className);
+        return loadData(type, () -> instantiate(type));
+    }
+
+    /**
+     * Loads the data of a provider visible to the generated test, which creates it without reflection.
+     *
+     * @param type    the provider class, keying the caches
+     * @param factory creates the provider on first use, typically its constructor reference
+     * @param <T>     the provider type
+     * @return the data returned by the provider
+     */
+    public static <T extends DataLoad> Map<String, Object> getData(Class<T> type, Supplier<? extends T> factory) {
+        return loadData(type, factory);
+    }
+
+    private static Map<String, Object> loadData(Class<? extends DataLoad> type, Supplier<? extends DataLoad> factory) {
+        // Not computeIfAbsent: a provider may itself load another provider
+        DataLoad provider = PROVIDERS.get(type);
+        if (Objects.isNull(provider)) {
+            provider = Objects.requireNonNull(factory.get(), type.getName());
+            DataLoad existing = PROVIDERS.putIfAbsent(type, provider);
+            if (Objects.nonNull(existing))
+                provider = existing;
+        }
+        if (!provider.cacheable())
+            return load(provider);
+        LoadedData data = LOADED_DATA.get(type);
+        if (Objects.isNull(data)) {
+            data = new LoadedData(load(provider));
+            LoadedData existing = LOADED_DATA.putIfAbsent(type, data);
+            if (Objects.nonNull(existing))
+                data = existing;
+        }
+        return data;
+    }
+
+    private static Map<String, Object> load(DataLoad provider) {
+        Map<String, Object> data = provider.load();
+        return Objects.isNull(data) ? Collections.emptyMap() : data;
+    }
+
+    private static Class<? extends DataLoad> providerClass(String className) {
+        Class<? extends DataLoad> providerClass = PROVIDER_CLASSES.get(className);
+        if (Objects.isNull(providerClass)) {
+            providerClass = lookUpProviderClass(className);
+            PROVIDER_CLASSES.putIfAbsent(className, providerClass);
+        }
+        return providerClass;
+    }
+
+    private static Class<? extends DataLoad> lookUpProviderClass(String className) {
+        Class<?> type;
+        try {
+            type = Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Data provider " + className + " not found", e);
+        }
+        if (!DataLoad.class.isAssignableFrom(type))
+            throw new IllegalArgumentException("Class " + className + " does not implement DataLoad");
+        return type.asSubclass(DataLoad.class);
+    }
+
+    private static DataLoad instantiate(Class<? extends DataLoad> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Data provider " + type.getName() + " cannot be instantiated", e);
+        }
+    }
+
+    /**
+     * Returns the JSON bytes of a request body read from test data. For data loaded from a cacheable
+     * provider, the bytes are computed once per key and reused by every test sending that body, which
+     * therefore must not be modified by the tests.
+     *
+     * @param data the test data, as returned by {@code getData}
+     * @param key  the name of the body in the test data
+     * @return the body serialized as JSON
+     * @throws UncheckedIOException if serialization fails
+     */
+    public static byte[] jsonBody(Map<String, Object> data, String key) {
+        if (data instanceof LoadedData loadedData)
+            return loadedData.jsonBody(key);
+        return toJson(data.get(key));
+    }
+
+    /**
+     * Serializes any given object into a JSON string.
+     *
+     * @param body the object to be serialized
+     * @return the JSON string representation of the object
+     * @throws UncheckedIOException if serialization fails
+     */
+    public static String formatBody(Object body) {
+        try {
+            return JsonBodies.WRITER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] toJson(Object body) {
+        try {
+            return JsonBodies.WRITER.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String safeString(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * Holder of the shared writer, built once, on first use, by the class initialization.
+     */
+    private static final class JsonBodies {
+
+        private static final ObjectWriter WRITER = createWriter();
+
+        private static ObjectWriter createWriter() {
+            ObjectMapper mapper = new ObjectMapper();
+            ServiceLoader.load(BodySerializerCustomizer.class, DataLoadUtil.class.getClassLoader())
+                    .forEach(customizer -> customizer.customize(mapper));
+            return mapper.writer();
+        }
+    }
+
+    /**
+     * Read-only data of a cacheable provider, holding the JSON bytes of its bodies once serialized.
+     */
+    private static final class LoadedData extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> data;
+        private final ConcurrentMap<String, byte[]> jsonBodies = new ConcurrentHashMap<>();
+
+        private LoadedData(Map<String, Object> data) {
+            this.data = Collections.unmodifiableMap(data);
+        }
+
+        private byte[] jsonBody(String key) {
+            return jsonBodies.computeIfAbsent(key, name -> toJson(data.get(name)));
+        }
+
+        @Override
+        public Object get(Object key) {
+            return data.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return data.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return data.entrySet();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,373 @@
+package io.github.kelari.atg.util;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Request/response log of the generated tests, behind the {@link KelariTestSupport#logRequest()} and
+ * {@link KelariTestSupport#logResponse()} filters.
+ * <p>
+ * The filters run on the Reactor I/O threads, so they only capture what they see: the method, URL or status,
+ * the headers, the cookies, and the first {@value #DEFAULT_MAX_BODY_BYTES} bytes of the body (see
+ * {@value #MAX_BODY_BYTES_PROPERTY}). Each exchange is then put into a bounded ring buffer (see
+ * {@value #BUFFER_SIZE_PROPERTY}), where the oldest entries are dropped when it is full, and a single daemon
+ * thread formats them.
+ * </p>
+ *
+ * <p>The entries of a test registering {@link KelariLogExtension} are kept with the test and flushed as one block
+ * after it, to its JUnit report or to its own log file. The others are printed to the standard output, one entry
+ * at a time, without their response body, which may never be read.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class ExchangeLog {
+
+    /**
+     * System property holding the maximum number of bytes of each body written to the log.
+     */
+    public static final String MAX_BODY_BYTES_PROPERTY = "kelari.log.maxBodyBytes";
+
+    /**
+     * System property holding the number of entries waiting to be formatted, beyond which the oldest are dropped.
+     */
+    public static final String BUFFER_SIZE_PROPERTY = "kelari.log.bufferSize";
+
+    static final int DEFAULT_MAX_BODY_BYTES = 8192;
+    static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private static final int MAX_BODY_BYTES = Math.max(0, Integer.getInteger(MAX_BODY_BYTES_PROPERTY, DEFAULT_MAX_BODY_BYTES));
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
+
+    private static final ThreadLocal<TestLog> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ExchangeLog() {}
+
+    /**
+     * Returns a filter capturing each request, with its headers, cookies and body.
+     *
+     * @return the request logging filter
+     */
+    static ExchangeFilterFunction requestFilter() {
+        return (request, next) -> {
+            // Called on the thread running the test, before subscription
+            Entry entry = Entry.request(CURRENT.get(), request.method(), request.url(), request.headers(), request.cookies());
+            ClientRequest logged = ClientRequest.from(request)
+                    .body((message, context) -> request.body().insert(new CapturingRequest(message, entry), context))
+                    .build();
+            return next.exchange(logged);
+        };
+    }
+
+    /**
+     * Returns a filter capturing each response, with its headers and, within a test registering
+     * {@link KelariLogExtension}, its body once read by the test.
+     *
+     * @return the response logging filter
+     */
+    static ExchangeFilterFunction responseFilter() {
+        return (request, next) -> {
+            TestLog owner = CURRENT.get();
+            return next.exchange(request).map(response -> {
+                Entry entry = Entry.response(owner, response.statusCode(), response.headers().asHttpHeaders());
+                if (Objects.isNull(owner)) {
+                    entry.submit();
+                    return response;
+                }
+                return response.mutate()
+                        .body(body -> body.doOnNext(entry::capture)
+                                .doOnTerminate(entry::submit)
+                                .doOnCancel(entry::submit))
+                        .build();
+            });
+        };
+    }
+
+    /**
+     * Starts collecting the entries of the test running on the current thread.
+     *
+     * @return the log of the test
+     */
+    static TestLog begin() {
+        TestLog log = new TestLog();
+        CURRENT.set(log);
+        return log;
+    }
+
+    /**
+     * Stops collecting the entries of a test and returns them, once formatted.
+     * The entries whose body is still being read are written as they are.
+     *
+     * @param log the log returned by {@link #begin()}
+     * @return the formatted entries, empty if the test made no request
+     * @throws InterruptedException if interrupted while waiting for the formatter
+     */
+    static String end(TestLog log) throws InterruptedException {
+        CURRENT.remove();
+        return log.close();
+    }
+
+    /**
+     * Entries of one test, filled by the formatter thread.
+     */
+    static final class TestLog {
+
+        private final StringBuilder text = new StringBuilder();
+        private final List<Entry> open = new ArrayList<>();
+        private int pending;
+        private int dropped;
+
+        private synchronized void opened(Entry entry) {
+            open.add(entry);
+        }
+
+        private synchronized void submitted(Entry entry) {
+            open.remove(entry);
+            pending++;
+        }
+
+        private synchronized void formatted(String entry) {
+            text.append(entry);
+            pending--;
+            notifyAll();
+        }
+
+        private synchronized void dropped() {
+            dropped++;
+            pending--;
+            notifyAll();
+        }
+
+        private String close() throws InterruptedException {
+            List<Entry> unfinished;
+            synchronized (this) {
+                unfinished = List.copyOf(open);
+            }
+            unfinished.forEach(Entry::submit);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(FLUSH_TIMEOUT_SECONDS);
+            synchronized (this) {
+                for (long wait; pending > 0 && (wait = deadline - System.nanoTime()) > 0; )
+                    TimeUnit.NANOSECONDS.timedWait(this, wait);
+                if (dropped > 0)
+                    text.append("[LOG] ").append(dropped).append(" entries dropped, the log buffer was full (")
+                            .append(BUFFER_SIZE_PROPERTY).append(")\n");
+                if (pending > 0)
+                    text.append("[LOG] ").append(pending).append(" entries not formatted in time\n");
+                return text.toString();
+            }
+        }
+    }
+
+    /**
+     * A request or response as captured by the filters, formatted later by the formatter thread.
+     */
+    private static final class Entry {
+
+        private final TestLog owner;
+        private final String direction;
+        private final Object line;
+        private final HttpHeaders headers;
+        private final MultiValueMap<String, String> cookies;
+        private final AtomicBoolean submitted = new AtomicBoolean();
+        private byte[] body;
+        private int captured;
+        private long size;
+
+        private Entry(TestLog owner, String direction, Object line, HttpHeaders headers, MultiValueMap<String, String> cookies) {
+            this.owner = owner;
+            this.direction = direction;
+            this.line = line;
+            this.headers = headers;
+            this.cookies = cookies;
+            if (Objects.nonNull(owner))
+                owner.opened(this);
+        }
+
+        private static Entry request(TestLog owner, HttpMethod method, URI url, HttpHeaders headers,
+                                     MultiValueMap<String, String> cookies) {
+            return new Entry(owner, "[REQUEST] → ", method + " " + url, headers, cookies);
+        }
+
+        private static Entry response(TestLog owner, HttpStatusCode status, HttpHeaders headers) {
+            return new Entry(owner, "[RESPONSE] ← Status: ", status, headers, null);
+        }
+
+        /**
+         * Copies the beginning of a body chunk, up to the byte cap, without consuming it.
+         */
+        private synchronized void capture(DataBuffer buffer) {
+            int readable = buffer.readableByteCount();
+            int count = Math.min(readable, MAX_BODY_BYTES - captured);
+            if (count > 0) {
+                if (Objects.isNull(body))
+                    body = new byte[Math.min(MAX_BODY_BYTES, Math.max(count, 256))];
+                else if (body.length < captured + count)
+                    body = Arrays.copyOf(body, Math.min(MAX_BODY_BYTES, Math.max(captured + count, body.length * 2)));
+                int start = buffer.readPosition();
+                for (int i = 0; i < count; i++)
+                    body[captured + i] = buffer.getByte(start + i);
+                captured += count;
+            }
+            size += readable;
+        }
+
+        private void submit() {
+            if (!submitted.compareAndSet(false, true))
+                return;
+            if (Objects.nonNull(owner))
+                owner.submitted(this);
+            Formatter.enqueue(this);
+        }
+
+        private void deliver() {
+            String entry;
+            try {
+                entry = format();
+            } catch (RuntimeException e) {
+                // Keeps the formatter thread alive and reports the failure with the entry, not as a dropped entry
+                entry = direction + line + "\n[LOG] Entry not formatted: " + e + '\n';
+            }
+            if (Objects.isNull(owner))
+                System.out.print(entry);
+            else
+                owner.formatted(entry);
+        }
+
+        private void drop() {
+            if (Objects.nonNull(owner))
+                owner.dropped();
+        }
+
+        private synchronized String format() {
+            StringBuilder out = new StringBuilder(256 + captured).append(direction).append(line).append('\n');
+            headers.forEach((name, values) -> out.append("[HEADER] ").append(name).append(": ").append(values).append('\n'));
+            if (Objects.nonNull(cookies))
+                cookies.forEach((name, values) -> out.append("[COOKIE] ").append(name).append(": ").append(values).append('\n'));
+            if (size > 0) {
+                MediaType contentType = headers.getContentType();
+                out.append("[BODY] ");
+                if (captured > 0 && isText(contentType)) {
+                    out.append(new String(body, 0, captured, charset(contentType)));
+                    if (size > captured)
+                        out.append(" … (").append(size).append(" bytes, truncated to ").append(captured).append(')');
+                } else {
+                    out.append('<').append(size).append(" bytes");
+                    if (Objects.nonNull(contentType))
+                        out.append(" of ").append(contentType);
+                    out.append('>');
+                }
+                out.append('\n');
+            }
+            return out.toString();
+        }
+
+        private static boolean isText(MediaType contentType) {
+            if (Objects.isNull(contentType))
+                return true;
+            String subtype = contentType.getSubtype();
+            return "text".equals(contentType.getType())
+                    || subtype.equals("json") || subtype.endsWith("+json")
+                    || subtype.equals("xml") || subtype.endsWith("+xml")
+                    || subtype.equals("x-www-form-urlencoded");
+        }
+
+        private static Charset charset(MediaType contentType) {
+            return Objects.nonNull(contentType) && Objects.nonNull(contentType.getCharset())
+                    ? contentType.getCharset()
+                    : StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * Request decorator capturing the body as it is written.
+     */
+    private static final class CapturingRequest extends ClientHttpRequestDecorator {
+
+        private final Entry entry;
+
+        private CapturingRequest(ClientHttpRequest delegate, Entry entry) {
+            super(delegate);
+            this.entry = entry;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(entry::capture))
+                    .doOnTerminate(entry::submit).doOnCancel(entry::submit);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk).doOnNext(entry::capture)))
+                    .doOnTerminate(entry::submit).doOnCancel(entry::submit);
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return super.setComplete().doOnTerminate(entry::submit).doOnCancel(entry::submit);
+        }
+    }
+
+    /**
+     * The ring buffer and the daemon thread formatting its entries, started on first use.
+     */
+    private static final class Formatter {
+
+        private static final BlockingQueue<Entry> BUFFER = new ArrayBlockingQueue<>(
+                Math.max(1, Integer.getInteger(BUFFER_SIZE_PROPERTY, DEFAULT_BUFFER_SIZE)));
+
+        static {
+            Thread thread = new Thread(Formatter::run, "kelari-exchange-log");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        /**
+         * Adds an entry without blocking the I/O thread, dropping the oldest entries while the buffer is full.
+         */
+        private static void enqueue(Entry entry) {
+            while (!BUFFER.offer(entry)) {
+                Entry oldest = BUFFER.poll();
+                if (Objects.nonNull(oldest))
+                    oldest.drop();
+            }
+        }
+
+        private static void run() {
+            try {
+                while (true) {
+                    BUFFER.take().deliver();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.kelari.atg.util;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JUnit 5 extension flushing the request/response log of each test, registered on the generated test classes
+ * that have a case with {@code enableLogging = true}.
+ * <p>
+ * The exchanges captured by {@link KelariTestSupport#logRequest()} and {@link KelariTestSupport#logResponse()}
+ * while a test runs are formatted off the I/O threads (see {@link ExchangeLog}) and kept with the test. After the
+ * test, they are written as one block, so the logs of tests running in parallel do not interleave:
+ * </p>
+ * <ul>
+ *     <li>{@code report} (default): published as the {@value #REPORT_ENTRY_KEY} entry of the JUnit report
+ *     of the test;</li>
+ *     <li>{@code file}: written to {@code <dir>/<test class>/<test method>[-<repetition>].log}, where {@code dir}
+ *     is given by {@value #DIRECTORY_PROPERTY} ({@value #DEFAULT_DIRECTORY} by default).</li>
+ * </ul>
+ *
+ * <p>The output is chosen with the {@value #OUTPUT_PROPERTY} JUnit configuration parameter, which may be set in
+ * {@code junit-platform.properties} or as a system property.</p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public class KelariLogExtension implements BeforeEachCallback, AfterEachCallback {
+
+    /**
+     * Configuration parameter choosing where the log of each test is written: {@code report} or {@code file}.
+     */
+    public static final String OUTPUT_PROPERTY = "kelari.log.output";
+
+    /**
+     * Configuration parameter holding the directory of the log files, with the {@code file} output.
+     */
+    public static final String DIRECTORY_PROPERTY = "kelari.log.dir";
+
+    /**
+     * Key of the JUnit report entry holding the log of a test, with the {@code report} output.
+     */
+    public static final String REPORT_ENTRY_KEY = "kelari.exchanges";
+
+    static final String DEFAULT_DIRECTORY = "target/kelari-logs";
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(KelariLogExtension.class);
+    private static final Pattern REPETITION = Pattern.compile("#(\\d+)]$");
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(ExchangeLog.TestLog.class, ExchangeLog.begin());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) throws Exception {
+        ExchangeLog.TestLog log = context.getStore(NAMESPACE).remove(ExchangeLog.TestLog.class, ExchangeLog.TestLog.class);
+        if (Objects.isNull(log))
+            return;
+        String text = ExchangeLog.end(log);
+        if (text.isEmpty())
+            return;
+        if ("file".equals(context.getConfigurationParameter(OUTPUT_PROPERTY).orElse("report"))) {
+            Path directory = Paths.get(context.getConfigurationParameter(DIRECTORY_PROPERTY).orElse(DEFAULT_DIRECTORY),
+                    context.getRequiredTestClass().getName());
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(fileName(context)), text, StandardCharsets.UTF_8);
+        } else {
+            context.publishReportEntry(REPORT_ENTRY_KEY, text);
+        }
+    }
+
+    /**
+     * Returns the name of the log file of a test: its method name, followed by the repetition number
+     * for a {@code @RepeatedTest}.
+     */
+    private static String fileName(ExtensionContext context) {
+        Matcher repetition = REPETITION.matcher(context.getUniqueId());
+        String name = context.getRequiredTestMethod().getName();
+        return (repetition.find() ? name + "-" + repetition.group(1) : name) + ".log";
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.kelari.atg.util;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.util.Map;
+
+/**
+ * Runtime support called by the generated tests: multipart body building and request/response logging.
+ * <p>
+ * The generated test classes import its members statically, as they do for {@link DataLoadUtil}, and call
+ * them to build multipart request bodies and to add the logging filters to their {@code WebTestClient}.
+ * </p>
+ *
+ * <p>Spring WebFlux is a {@code provided} dependency: it is always on the test classpath of the projects
+ * running the generated tests, which use {@code WebTestClient}.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * WebTestClient client = webTestClient.mutate()
+ *         .filter(logRequest())
+ *         .filter(logResponse())
+ *         .build();
+ * client.post()
+ *         .uri("/api/upload")
+ *         .body(BodyInserters.fromMultipartData(buildMultipartData(data)));
+ * }</pre>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a> [<()>] – Initial implementation.
+ * @since 1.2
+ * @copyright 2025 Kelari. All rights reserved.
+ */
+public final class KelariTestSupport {
+
+    /**
+     * Version of the runtime API called by the generated tests. Methods are only added within a version,
+     * so tests generated for an older version keep compiling against a newer runtime.
+     */
+    public static final String VERSION = "1.2";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private KelariTestSupport() {}
+
+    /**
+     * Builds the multipart body of a request from test data: {@link Resource} and {@code byte[]} values
+     * are sent as binary parts, any other value as a plain text part.
+     *
+     * @param data the test data, keyed by part name
+     * @return the parts of the multipart body
+     */
+    public static MultiValueMap<String, HttpEntity<?>> buildMultipartData(Map<String, Object> data) {
+        MultiValueMap<String, HttpEntity<?>> body = new LinkedMultiValueMap<>();
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            HttpHeaders headers = new HttpHeaders();
+            if (value instanceof Resource || value instanceof byte[]) {
+                headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+                body.add(key, new HttpEntity<>(value, headers));
+            } else {
+                headers.setContentType(MediaType.TEXT_PLAIN);
+                body.add(key, new HttpEntity<>(DataLoadUtil.safeString(value), headers));
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Returns a filter logging the method, URL, headers, cookies and body of each request.
+     * The log is written asynchronously, see {@link ExchangeLog}.
+     *
+     * @return the request logging filter
+     */
+    public static ExchangeFilterFunction logRequest() {
+        return ExchangeLog.requestFilter();
+    }
+
+    /**
+     * Returns a filter logging the status code, headers and body of each response.
+     * The log is written asynchronously, see {@link ExchangeLog}.
+     *
+     * @return the response logging filter
+     */
+    public static ExchangeFilterFunction logResponse() {
+        return ExchangeLog.responseFilter();
+    }
+}
@@ -1,18 +0,0 @@
-package io.github.kelari.atg.model;
-
-public class Cookie {
-    private String name;
-    private String value;
-
-    public Cookie(String name, String value) {
-        this.name = name;
-        this.value = value;
-    }
-
-    public String getName() {
-        return name;
-    }
-    public String getValue() {
-        return value;
-    }
-}
\ No newline at end of file